@@ -1,6 +1,7 @@
 plugins {
     id("org.openrewrite.build.recipe-library") version "latest.release"
     id("org.openrewrite.build.moderne-source-available-license") version "latest.release"
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "org.openrewrite.recipe"
@@ -20,9 +21,22 @@ dependencies {
     testImplementation("org.openrewrite:rewrite-maven")
 
     testRuntimeOnly("org.openrewrite:rewrite-java-21")
+
+    jmh("org.openrewrite:rewrite-java-21")
+    jmh("joda-time:joda-time:2.12.3")
+}
+
+jmh {
+    fork = 1
+    warmupIterations = 3
+    iterations = 5
+    // gc.alloc.rate.norm is reported per operation, i.e. bytes allocated per source file
+    profilers = listOf("gc")
 }
 
 recipeDependencies {
     parserClasspath("org.threeten:threeten-extra:1.8.0")
+    // for the bundled classpath of JodaBatchMigration
+    parserClasspath("joda-time:joda-time:2.12.3")
     testParserClasspath("joda-time:joda-time:2.12.3")
 }
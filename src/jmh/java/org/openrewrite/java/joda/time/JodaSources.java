@@ -0,0 +1,213 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.joda.time;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates the Joda-Time source files the benchmarks are run against.
+ */
+final class JodaSources {
+
+    private JodaSources() {
+    }
+
+    /**
+     * @return {@code count} generated classes, each exercising a rotating subset of the Joda-Time API
+     * with dense, repetitive usage.
+     */
+    static List<String> synthetic(int count) {
+        List<String> sources = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            StringBuilder body = new StringBuilder();
+            for (int j = 0; j < 10; j++) {
+                switch ((i + j) % 5) {
+                    case 0:
+                        body.append("        DateTime dt").append(j).append(" = new DateTime().plusDays(").append(j).append(").withZone(DateTimeZone.UTC);\n")
+                                .append("        sink(dt").append(j).append(".getHourOfDay() + dt").append(j).append(".getMinuteOfHour());\n");
+                        break;
+                    case 1:
+                        body.append("        LocalDate d").append(j).append(" = new LocalDate(2024, 1, ").append(j + 1).append(").plusMonths(1);\n")
+                                .append("        sink(d").append(j).append(".getMonthOfYear());\n");
+                        break;
+                    case 2:
+                        body.append("        Duration du").append(j).append(" = Duration.standardMinutes(").append(j).append(").plus(Duration.millis(5));\n")
+                                .append("        sink(du").append(j).append(".getStandardSeconds());\n");
+                        break;
+                    case 3:
+                        body.append("        DateTimeFormatter f").append(j).append(" = DateTimeFormat.forPattern(\"yyyy-MM-dd\");\n")
+                                .append("        sink(f").append(j).append(".print(new DateTime()).length());\n");
+                        break;
+                    default:
+                        body.append("        sink(Days.daysBetween(new DateTime(), new DateTime().plusDays(").append(j).append(")).getDays());\n")
+                                .append("        sink(Hours.hoursBetween(new DateTime(), new DateTime()).getHours());\n");
+                        break;
+                }
+            }
+            sources.add("package synthetic;\n" +
+                        "\n" +
+                        "import org.joda.time.*;\n" +
+                        "import org.joda.time.format.DateTimeFormat;\n" +
+                        "import org.joda.time.format.DateTimeFormatter;\n" +
+                        "\n" +
+                        "class Synthetic" + i + " {\n" +
+                        "    void run() {\n" +
+                        body +
+                        "    }\n" +
+                        "\n" +
+                        "    void sink(long value) {\n" +
+                        "    }\n" +
+                        "}\n");
+        }
+        return sources;
+    }
+
+    /**
+     * @return {@code count} classes shaped like typical application code, where Joda-Time usage is sparse
+     * and mixed in with fields, constructors, control flow and code that does not use Joda-Time at all.
+     */
+    static List<String> realWorld(int count) {
+        List<String> sources = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            switch (i % 3) {
+                case 0:
+                    sources.add(scheduler(i));
+                    break;
+                case 1:
+                    sources.add(reportFormatter(i));
+                    break;
+                default:
+                    sources.add(orderRepository(i));
+                    break;
+            }
+        }
+        return sources;
+    }
+
+    private static String scheduler(int i) {
+        return "package app.scheduling;\n" +
+               "\n" +
+               "import org.joda.time.DateTime;\n" +
+               "import org.joda.time.DateTimeZone;\n" +
+               "import org.joda.time.Duration;\n" +
+               "\n" +
+               "import java.util.ArrayList;\n" +
+               "import java.util.List;\n" +
+               "\n" +
+               "public class Scheduler" + i + " {\n" +
+               "    private final DateTimeZone zone;\n" +
+               "    private final List<String> jobs = new ArrayList<>();\n" +
+               "\n" +
+               "    public Scheduler" + i + "(String zoneId) {\n" +
+               "        this.zone = DateTimeZone.forID(zoneId);\n" +
+               "    }\n" +
+               "\n" +
+               "    public void register(String job) {\n" +
+               "        if (job == null || job.isEmpty()) {\n" +
+               "            throw new IllegalArgumentException(\"job\");\n" +
+               "        }\n" +
+               "        jobs.add(job.trim());\n" +
+               "    }\n" +
+               "\n" +
+               "    public DateTime nextRun(DateTime last, long intervalMinutes) {\n" +
+               "        DateTime next = last.withZone(zone).plusMinutes((int) intervalMinutes);\n" +
+               "        if (next.getHourOfDay() < 6) {\n" +
+               "            next = next.withHourOfDay(6).withMinuteOfHour(0);\n" +
+               "        }\n" +
+               "        return next;\n" +
+               "    }\n" +
+               "\n" +
+               "    public boolean isOverdue(DateTime scheduled) {\n" +
+               "        return scheduled.plus(Duration.standardMinutes(5)).isBeforeNow();\n" +
+               "    }\n" +
+               "\n" +
+               "    public int size() {\n" +
+               "        int total = 0;\n" +
+               "        for (String job : jobs) {\n" +
+               "            total += job.length();\n" +
+               "        }\n" +
+               "        return total;\n" +
+               "    }\n" +
+               "}\n";
+    }
+
+    private static String reportFormatter(int i) {
+        return "package app.reporting;\n" +
+               "\n" +
+               "import org.joda.time.LocalDate;\n" +
+               "import org.joda.time.format.DateTimeFormat;\n" +
+               "import org.joda.time.format.DateTimeFormatter;\n" +
+               "\n" +
+               "import java.util.Map;\n" +
+               "import java.util.TreeMap;\n" +
+               "\n" +
+               "public class ReportFormatter" + i + " {\n" +
+               "    private static final DateTimeFormatter DAY = DateTimeFormat.forPattern(\"yyyy-MM-dd\");\n" +
+               "    private final Map<String, Integer> totals = new TreeMap<>();\n" +
+               "\n" +
+               "    public void add(LocalDate day, int amount) {\n" +
+               "        totals.merge(DAY.print(day), amount, Integer::sum);\n" +
+               "    }\n" +
+               "\n" +
+               "    public String render() {\n" +
+               "        StringBuilder out = new StringBuilder();\n" +
+               "        for (Map.Entry<String, Integer> e : totals.entrySet()) {\n" +
+               "            out.append(e.getKey()).append(';').append(e.getValue()).append('\\n');\n" +
+               "        }\n" +
+               "        return out.toString();\n" +
+               "    }\n" +
+               "\n" +
+               "    public LocalDate parse(String text) {\n" +
+               "        return DateTimeFormat.forPattern(\"dd.MM.yyyy\").parseLocalDate(text).plusDays(1);\n" +
+               "    }\n" +
+               "}\n";
+    }
+
+    private static String orderRepository(int i) {
+        return "package app.orders;\n" +
+               "\n" +
+               "import org.joda.time.DateTime;\n" +
+               "import org.joda.time.Days;\n" +
+               "import org.joda.time.Interval;\n" +
+               "\n" +
+               "import java.util.HashMap;\n" +
+               "import java.util.Map;\n" +
+               "import java.util.Objects;\n" +
+               "\n" +
+               "public class OrderRepository" + i + " {\n" +
+               "    private final Map<Long, DateTime> created = new HashMap<>();\n" +
+               "\n" +
+               "    public void save(long id) {\n" +
+               "        created.put(id, new DateTime());\n" +
+               "    }\n" +
+               "\n" +
+               "    public int ageInDays(long id) {\n" +
+               "        DateTime at = Objects.requireNonNull(created.get(id));\n" +
+               "        return Days.daysBetween(at, new DateTime()).getDays();\n" +
+               "    }\n" +
+               "\n" +
+               "    public boolean createdWithin(long id, DateTime from, DateTime to) {\n" +
+               "        Interval window = new Interval(from, to);\n" +
+               "        return window.contains(created.get(id));\n" +
+               "    }\n" +
+               "\n" +
+               "    public long epochMillis(long id) {\n" +
+               "        return created.get(id).getMillis();\n" +
+               "    }\n" +
+               "}\n";
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.joda.time;
+
+import org.openjdk.jmh.annotations.*;
+import org.openrewrite.Recipe;
+import org.openrewrite.config.Environment;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time to load {@code NoJodaTime}, which a short migration run waits for before its first file.
+ * The classpath is scanned again on every load, so the difference between the benchmarks remains visible after
+ * warmup, when the classes are already loaded.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RecipeLoadingBenchmark {
+
+    @Benchmark
+    public Recipe scanWholeClasspath() {
+        return Environment.builder()
+                .scanRuntimeClasspath()
+                .build()
+                .activateRecipes(JodaMigration.RECIPE);
+    }
+
+    @Benchmark
+    public Recipe scanModulePackage() {
+        return JodaMigration.scanRecipe();
+    }
+}
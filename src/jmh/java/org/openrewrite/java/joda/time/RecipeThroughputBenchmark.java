@@ -0,0 +1,82 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.joda.time;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.LargeSourceSet;
+import org.openrewrite.Recipe;
+import org.openrewrite.SourceFile;
+import org.openrewrite.config.Environment;
+import org.openrewrite.internal.InMemoryLargeSourceSet;
+import org.openrewrite.java.JavaParser;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Measures how many source files per second a recipe processes. The sources are parsed once per trial,
+ * so only recipe execution is measured. Run with {@code ./gradlew jmh}; the {@code gc} profiler's
+ * {@code gc.alloc.rate.norm} is the number of bytes allocated per source file.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class RecipeThroughputBenchmark {
+    private static final int FILES = 60;
+
+    @Param({
+            "JodaDateTimeToJavaTime",
+            "JodaTimePeriodToJavaTime",
+            "JodaFormatterToJavaTime",
+            "JodaDurationToJavaTime",
+            "JodaLocalDateToJavaTime",
+            "JodaMethodNamesToJavaTime",
+            "NoJodaTime"
+    })
+    String recipeName;
+
+    @Param({"synthetic", "realWorld"})
+    String corpus;
+
+    Recipe recipe;
+    LargeSourceSet sourceSet;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        List<String> sources = "synthetic".equals(corpus) ? JodaSources.synthetic(FILES) : JodaSources.realWorld(FILES);
+        InMemoryExecutionContext ctx = new InMemoryExecutionContext(Throwable::printStackTrace);
+        List<SourceFile> sourceFiles = JavaParser.fromJavaVersion()
+                .classpath("joda-time")
+                .build()
+                .parse(ctx, sources.toArray(new String[0]))
+                .collect(toList());
+        sourceSet = new InMemoryLargeSourceSet(sourceFiles);
+        recipe = Environment.builder()
+                .scanRuntimeClasspath()
+                .build()
+                .activateRecipes("org.openrewrite.java.joda.time." + recipeName);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FILES)
+    public void run(Blackhole blackhole) {
+        blackhole.consume(recipe.run(sourceSet, new InMemoryExecutionContext()).getChangeset().getAllResults());
+    }
+}
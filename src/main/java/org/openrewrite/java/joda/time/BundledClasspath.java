@@ -0,0 +1,50 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.joda.time;
+
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * The classpaths of the artifacts bundled as type table in {@code META-INF/rewrite/classpath.tsv.gz}.
+ * <p>
+ * Each artifact is resolved at most once per JVM, when it is first needed, instead of once per template or
+ * repository. This is only memoization: resolving an artifact still decodes the type table as a whole.
+ */
+final class BundledClasspath {
+    private BundledClasspath() {
+    }
+
+    static List<Path> jodaTime() {
+        return JodaTime.CLASSPATH;
+    }
+
+    static List<Path> threeTenExtra() {
+        return ThreeTenExtra.CLASSPATH;
+    }
+
+    // initialized by the JVM on first access, which is thread-safe without locking afterwards
+    private static final class JodaTime {
+        static final List<Path> CLASSPATH = JavaParser.dependenciesFromResources(new InMemoryExecutionContext(), "joda-time-2");
+    }
+
+    private static final class ThreeTenExtra {
+        static final List<Path> CLASSPATH = JavaParser.dependenciesFromResources(new InMemoryExecutionContext(), "threeten-extra-1");
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.joda.time;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Collapses epoch millisecond round-trips through already migrated {@code ZonedDateTime} expressions, as in
+ * {@code new DateTime(ts).plusMillis(5).getMillis()}, which migrates to
+ * {@code ZonedDateTime.ofInstant(Instant.ofEpochMilli(ts), ZoneId.systemDefault()).plus(Duration.ofMillis(5)).toInstant().toEpochMilli()}
+ * and is simplified to {@code ts + 5}. The zone of such an expression is never observed, so it is only dropped
+ * when evaluating it has no side effects.
+ */
+final class EpochMillisRoundTrip {
+    private static final MethodMatcher OF_INSTANT = new MethodMatcher("java.time.ZonedDateTime ofInstant(java.time.Instant, java.time.ZoneId)");
+    private static final MethodMatcher OF_EPOCH_MILLI = new MethodMatcher("java.time.Instant ofEpochMilli(long)");
+    private static final MethodMatcher PLUS = new MethodMatcher("java.time.ZonedDateTime plus(java.time.temporal.TemporalAmount)");
+    private static final MethodMatcher MINUS = new MethodMatcher("java.time.ZonedDateTime minus(java.time.temporal.TemporalAmount)");
+    private static final MethodMatcher DURATION_OF_MILLIS = new MethodMatcher("java.time.Duration ofMillis(long)");
+    private static final MethodMatcher SYSTEM_DEFAULT = new MethodMatcher("java.time.ZoneId systemDefault()");
+
+    private EpochMillisRoundTrip() {
+    }
+
+    /**
+     * @param getMillis A {@code getMillis()} call whose select is already migrated to {@code ZonedDateTime}.
+     * @param cursor    The cursor of the call.
+     * @return The epoch milliseconds computed with {@code long} arithmetic, or {@code null} if the select is not
+     * a round-trip from epoch milliseconds.
+     */
+    static @Nullable J toEpochMilli(J.MethodInvocation getMillis, Cursor cursor) {
+        RoundTrip roundTrip = RoundTrip.of(getMillis.getSelect());
+        if (roundTrip == null) {
+            return null;
+        }
+        boolean isLong = isLong(roundTrip.epochMillis);
+        if (roundTrip.terms.isEmpty() && isLong) {
+            return roundTrip.epochMillis.withPrefix(getMillis.getPrefix());
+        }
+        // the epoch milliseconds were widened to long when passed to Joda-Time, so the arithmetic must not overflow an int
+        StringBuilder code = new StringBuilder(isLong ? "" : "(long) ").append(operand(roundTrip.epochMillis));
+        List<Expression> parameters = new ArrayList<>();
+        parameters.add(roundTrip.epochMillis);
+        for (Term term : roundTrip.terms) {
+            code.append(term.plus ? " + " : " - ").append(operand(term.millis));
+            parameters.add(term.millis);
+        }
+        Object parent = cursor.getParentTreeCursor().getValue();
+        // a cast on its own binds tighter than any operator it may be an operand of
+        if (!roundTrip.terms.isEmpty() &&
+            (parent instanceof J.Binary || parent instanceof J.Unary || parent instanceof J.TypeCast || parent instanceof J.InstanceOf)) {
+            code.insert(0, '(').append(')');
+        }
+        return JodaTemplates.get(code.toString()).apply(cursor, getMillis.getCoordinates().replace(), parameters.toArray());
+    }
+
+    /**
+     * @param toInstant A {@code toInstant()} call whose select is already migrated to {@code ZonedDateTime}.
+     * @param cursor    The cursor of the call.
+     * @return The instant computed without a {@code ZonedDateTime}, or {@code null} if the select is not
+     * a round-trip from epoch milliseconds.
+     */
+    static @Nullable J toInstant(J.MethodInvocation toInstant, Cursor cursor) {
+        RoundTrip roundTrip = RoundTrip.of(toInstant.getSelect());
+        if (roundTrip == null) {
+            return null;
+        }
+        StringBuilder code = new StringBuilder("Instant.ofEpochMilli(#{any(long)})");
+        List<Expression> parameters = new ArrayList<>();
+        parameters.add(roundTrip.epochMillis);
+        for (Term term : roundTrip.terms) {
+            code.append(term.plus ? ".plusMillis(#{any(long)})" : ".minusMillis(#{any(long)})");
+            parameters.add(term.millis);
+        }
+        return JodaTemplates.get(code.toString(), "java.time.Instant")
+                .apply(cursor, toInstant.getCoordinates().replace(), parameters.toArray());
+    }
+
+    private static boolean isLong(Expression e) {
+        return TypeUtils.isOfType(e.getType(), JavaType.Primitive.Long) || TypeUtils.isOfClassType(e.getType(), "java.lang.Long");
+    }
+
+    private static String operand(Expression e) {
+        return e instanceof J.Identifier || e instanceof J.Literal || e instanceof J.FieldAccess ||
+               e instanceof J.MethodInvocation || e instanceof J.Parentheses || e instanceof J.ArrayAccess ?
+                "#{any(long)}" : "(#{any(long)})";
+    }
+
+    private static boolean isSideEffectFree(Expression zone) {
+        if (zone instanceof J.Identifier || zone instanceof J.Literal) {
+            return true;
+        }
+        if (zone instanceof J.FieldAccess) {
+            return isSideEffectFree(((J.FieldAccess) zone).getTarget());
+        }
+        return SYSTEM_DEFAULT.matches(zone);
+    }
+
+    private static class RoundTrip {
+        final Expression epochMillis;
+        final List<Term> terms;
+
+        RoundTrip(Expression epochMillis, List<Term> terms) {
+            this.epochMillis = epochMillis;
+            this.terms = terms;
+        }
+
+        static @Nullable RoundTrip of(@Nullable Expression zonedDateTime) {
+            List<Term> terms = new ArrayList<>();
+            Expression e = zonedDateTime;
+            while (e instanceof J.MethodInvocation) {
+                J.MethodInvocation m = (J.MethodInvocation) e;
+                if (PLUS.matches(m) || MINUS.matches(m)) {
+                    Expression amount = m.getArguments().get(0);
+                    if (!DURATION_OF_MILLIS.matches(amount)) {
+                        return null;
+                    }
+                    terms.add(new Term(PLUS.matches(m), ((J.MethodInvocation) amount).getArguments().get(0)));
+                    e = m.getSelect();
+                } else if (OF_INSTANT.matches(m)) {
+                    Expression instant = m.getArguments().get(0);
+                    if (!OF_EPOCH_MILLI.matches(instant) || !isSideEffectFree(m.getArguments().get(1))) {
+                        return null;
+                    }
+                    // terms were collected from the outermost call inwards
+                    Collections.reverse(terms);
+                    return new RoundTrip(((J.MethodInvocation) instant).getArguments().get(0), terms);
+                } else {
+                    return null;
+                }
+            }
+            return null;
+        }
+    }
+
+    private static class Term {
+        final boolean plus;
+        final Expression millis;
+
+        Term(boolean plus, Expression millis) {
+            this.plus = plus;
+            this.millis = millis;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.joda.time;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.joda.time.table.JodaFormatterHotspots;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.marker.SearchResult;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class FindJodaFormatterHotspots extends Recipe {
+    String displayName = "Find Joda-Time formatters built in hot code";
+
+    String description = "Finds `DateTimeFormat.forPattern(..)` and `ISODateTimeFormat` calls inside loops, lambdas and methods " +
+                         "that are typically invoked many times, such as `compareTo` or `toString`. Such formatters are built " +
+                         "again on every invocation, and are candidates for a constant before or during the migration.";
+
+    transient JodaFormatterHotspots hotspots = new JodaFormatterHotspots(this);
+
+    private static final MethodMatcher FOR_PATTERN = new MethodMatcher("org.joda.time.format.DateTimeFormat forPattern(java.lang.String)");
+    private static final MethodMatcher ISO_FORMAT = new MethodMatcher("org.joda.time.format.ISODateTimeFormat *(..)");
+
+    // methods of comparators, value objects and functional interfaces
+    private static final Set<String> FREQUENTLY_INVOKED = new HashSet<>(Arrays.asList(
+            "compare", "compareTo", "equals", "hashCode", "toString", "run", "call", "apply", "accept", "test"));
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(new UsesJodaType<>(UsesJodaType.FORMAT), new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                J.MethodInvocation m = super.visitMethodInvocation(method, ctx);
+                JavaType.Method methodType = method.getMethodType();
+                if (methodType == null || !FOR_PATTERN.matches(methodType) && !ISO_FORMAT.matches(methodType)) {
+                    return m;
+                }
+
+                int loopDepth = 0;
+                boolean inLambda = false;
+                @Nullable String methodName = null;
+                J child = method;
+                J grandChild = null;
+                for (Cursor c = getCursor().getParent(); c != null; c = c.getParent()) {
+                    Object value = c.getValue();
+                    if (!(value instanceof J)) {
+                        continue;
+                    }
+                    if (value instanceof J.MethodDeclaration) {
+                        methodName = ((J.MethodDeclaration) value).getSimpleName();
+                        break;
+                    } else if (value instanceof J.ClassDeclaration || value instanceof J.NewClass && ((J.NewClass) value).getBody() != null) {
+                        break;
+                    } else if (value instanceof J.Lambda) {
+                        // the loops around a lambda do not run its body
+                        inLambda = true;
+                    } else if (!inLambda && isRepeatedBy((J) value, child, grandChild)) {
+                        loopDepth++;
+                    }
+                    grandChild = child;
+                    child = (J) value;
+                }
+                boolean inFrequentlyInvokedMethod = methodName != null && FREQUENTLY_INVOKED.contains(methodName);
+                if (loopDepth == 0 && !inLambda && !inFrequentlyInvokedMethod) {
+                    return m;
+                }
+
+                J.ClassDeclaration classDecl = getCursor().firstEnclosing(J.ClassDeclaration.class);
+                @Nullable String pattern = null;
+                if (FOR_PATTERN.matches(methodType)) {
+                    Expression argument = method.getArguments().get(0);
+                    if (argument instanceof J.Literal) {
+                        pattern = String.valueOf(((J.Literal) argument).getValue());
+                    }
+                }
+                hotspots.insertRow(ctx, new JodaFormatterHotspots.Row(
+                        getCursor().firstEnclosingOrThrow(SourceFile.class).getSourcePath().toString(),
+                        (classDecl == null ? "" : classDecl.getSimpleName()) + "#" + (methodName == null ? "<initializer>" : methodName),
+                        methodType.getDeclaringType().getClassName() + "." + methodType.getName(),
+                        pattern,
+                        loopDepth,
+                        inLambda,
+                        inFrequentlyInvokedMethod));
+                return SearchResult.found(m, loopDepth > 0 ? "Formatter built in a loop" :
+                        inLambda ? "Formatter built in a lambda" : "Formatter built in `" + methodName + "`");
+            }
+        });
+    }
+
+    /**
+     * @return Whether the given tree evaluates its child repeatedly, as the body of a loop does.
+     */
+    private static boolean isRepeatedBy(J tree, J child, @Nullable J grandChild) {
+        if (tree instanceof J.WhileLoop || tree instanceof J.DoWhileLoop) {
+            return true;
+        }
+        if (tree instanceof J.ForEachLoop) {
+            return ((J.ForEachLoop) tree).getBody() == child;
+        }
+        if (tree instanceof J.ForLoop) {
+            // the initialization of a for loop runs once
+            return !(child instanceof J.ForLoop.Control) || !((J.ForLoop.Control) child).getInit().contains(grandChild);
+        }
+        return false;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.joda.time;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.joda.time.table.JodaTimeUsage;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class FindJodaTimeUsage extends Recipe {
+    String displayName = "Find Joda-Time usage";
+
+    String description = "Lists every Joda-Time method and constructor call in a data table, together with the recipe of " +
+                         "`NoJodaTime` that migrates it, if any, to size a migration before running it. The source files are only " +
+                         "visited once, and no Java template is applied.";
+
+    transient JodaTimeUsage usage = new JodaTimeUsage(this);
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(new UsesJodaType<>(UsesJodaType.ANY), new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                record(method.getMethodType(), ctx);
+                return super.visitMethodInvocation(method, ctx);
+            }
+
+            @Override
+            public J.NewClass visitNewClass(J.NewClass newClass, ExecutionContext ctx) {
+                record(newClass.getConstructorType(), ctx);
+                return super.visitNewClass(newClass, ctx);
+            }
+
+            @Override
+            public J.MemberReference visitMemberReference(J.MemberReference memberRef, ExecutionContext ctx) {
+                record(memberRef.getMethodType(), ctx);
+                return super.visitMemberReference(memberRef, ctx);
+            }
+
+            private void record(JavaType.@Nullable Method methodType, ExecutionContext ctx) {
+                if (methodType == null) {
+                    return;
+                }
+                String type = methodType.getDeclaringType().getFullyQualifiedName();
+                if (!type.startsWith("org.joda.time.")) {
+                    return;
+                }
+                String migratedBy = JodaMigrationCoverage.migratedBy(methodType);
+                usage.insertRow(ctx, new JodaTimeUsage.Row(
+                        getCursor().firstEnclosingOrThrow(SourceFile.class).getSourcePath().toString(),
+                        type,
+                        MethodMatcher.methodPattern(methodType),
+                        migratedBy != null,
+                        migratedBy));
+            }
+        });
+    }
+}
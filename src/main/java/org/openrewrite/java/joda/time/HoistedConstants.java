@@ -0,0 +1,202 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.joda.time;
+
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.Tree;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+
+import java.util.*;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * Lifts expressions that are evaluated inside methods, but always yield the same value, into
+ * {@code private static final} fields of the enclosing class.
+ * <p>
+ * A visitor first {@link #reference(Cursor, String, String, String, String, Object...) references} a constant
+ * where the expression was, and then {@link #declare(J.ClassDeclaration, Cursor) declares} the referenced
+ * constants once it is done visiting the enclosing class.
+ */
+final class HoistedConstants {
+    private static final String CONSTANTS = "JODA_HOISTED_CONSTANTS";
+
+    private HoistedConstants() {
+    }
+
+    /**
+     * @return The cursor of the class the constants of an expression inside a method can be declared in,
+     * or {@code null} if the expression is not inside a method, or the enclosing class may not declare
+     * static fields, as anonymous, local and inner classes. Interfaces only declare public constants, and the
+     * constructors of enums may not refer to static fields, whose declarations would also have to follow the
+     * enum constants, so constants are not hoisted into either.
+     */
+    static @Nullable Cursor target(Cursor cursor) {
+        boolean inMethod = false;
+        for (Iterator<Cursor> path = cursor.getPathAsCursors(); path.hasNext(); ) {
+            Cursor c = path.next();
+            Object value = c.getValue();
+            if (value instanceof J.MethodDeclaration) {
+                inMethod = true;
+            } else if (value instanceof J.NewClass && ((J.NewClass) value).getBody() != null) {
+                return null;
+            } else if (value instanceof J.ClassDeclaration) {
+                J.ClassDeclaration classDecl = (J.ClassDeclaration) value;
+                J.ClassDeclaration.Kind.Type kind = classDecl.getKind();
+                boolean mayDeclareStatics = c.getParentTreeCursor().getValue() instanceof JavaSourceFile ||
+                                            classDecl.hasModifier(J.Modifier.Type.Static) ||
+                                            kind == J.ClassDeclaration.Kind.Type.Record;
+                return inMethod && mayDeclareStatics &&
+                       (kind == J.ClassDeclaration.Kind.Type.Class || kind == J.ClassDeclaration.Kind.Type.Record) ? c : null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Registers a constant with the class of the target cursor and returns a reference to it. Constants
+     * registered under the same key are only declared once, and a {@code static final} field of the class
+     * whose initializer is the key, such as one declared by an earlier recipe, is referenced instead.
+     *
+     * @param target        A cursor returned by {@link #target(Cursor)}.
+     * @param key           The source of the initializer, which identifies the value of the constant.
+     * @param preferredName The name of the constant, unless the class already has a field of that name.
+     * @param type          The fully qualified type of the constant.
+     * @param initializer   A template of the initializer, whose simple type names must be in {@code type}.
+     * @param parameters    The parameters of the initializer template.
+     */
+    static J.Identifier reference(Cursor target, String key, String preferredName, String type,
+                                  String initializer, Object... parameters) {
+        Map<String, Constant> constants = target.computeMessageIfAbsent(CONSTANTS, k -> new LinkedHashMap<>());
+        Constant constant = constants.get(key);
+        if (constant == null) {
+            J.ClassDeclaration classDecl = target.getValue();
+            Set<String> names = new HashSet<>();
+            for (Statement statement : classDecl.getBody().getStatements()) {
+                if (statement instanceof J.VariableDeclarations) {
+                    J.VariableDeclarations field = (J.VariableDeclarations) statement;
+                    for (J.VariableDeclarations.NamedVariable variable : field.getVariables()) {
+                        if (constant == null && isConstant(field, variable, key, type, target)) {
+                            constant = new Constant(variable.getSimpleName(), type, initializer, parameters, true,
+                                    variable.getVariableType() != null ? variable.getVariableType() :
+                                            fieldType(classDecl, variable.getSimpleName(), type));
+                        }
+                        names.add(variable.getSimpleName());
+                    }
+                }
+            }
+            if (constant == null) {
+                for (Constant c : constants.values()) {
+                    names.add(c.getName());
+                }
+                String name = preferredName;
+                for (int i = 2; names.contains(name); i++) {
+                    name = preferredName + "_" + i;
+                }
+                constant = new Constant(name, type, initializer, parameters, false, fieldType(classDecl, name, type));
+            }
+            constants.put(key, constant);
+        }
+        return new J.Identifier(Tree.randomId(), Space.EMPTY, Markers.EMPTY, emptyList(), constant.getName(),
+                constant.getFieldType().getType(), constant.getFieldType());
+    }
+
+    private static boolean isConstant(J.VariableDeclarations field, J.VariableDeclarations.NamedVariable variable,
+                                      String key, String type, Cursor target) {
+        Expression value = variable.getInitializer();
+        return value != null &&
+               field.hasModifier(J.Modifier.Type.Static) && field.hasModifier(J.Modifier.Type.Final) &&
+               TypeUtils.isOfClassType(variable.getType(), type) &&
+               key.equals(value.printTrimmed(target));
+    }
+
+    private static JavaType.Variable fieldType(J.ClassDeclaration classDecl, String name, String type) {
+        return new JavaType.Variable(null, Flag.flagsToBitMap(EnumSet.of(Flag.Private, Flag.Static, Flag.Final)),
+                name, classDecl.getType(), JavaType.ShallowClass.build(type), emptyList());
+    }
+
+    /**
+     * Declares the constants referenced inside the given class, at the top of its body.
+     *
+     * @param classDecl The visited class.
+     * @param cursor    The cursor of the class, whose value may be the class before it was visited.
+     */
+    static J.ClassDeclaration declare(J.ClassDeclaration classDecl, Cursor cursor) {
+        Map<String, Constant> constants = cursor.pollMessage(CONSTANTS);
+        if (constants == null) {
+            return classDecl;
+        }
+        List<Constant> declarations = new ArrayList<>();
+        for (Constant constant : constants.values()) {
+            if (!constant.isExisting()) {
+                declarations.add(constant);
+            }
+        }
+        if (declarations.isEmpty()) {
+            return classDecl;
+        }
+        // each constant is inserted as the first statement, so insert the last one first
+        Collections.reverse(declarations);
+        J.ClassDeclaration cd = classDecl;
+        for (Constant constant : declarations) {
+            String simpleType = constant.getType().substring(constant.getType().lastIndexOf('.') + 1);
+            cd = JodaTemplates.get("private static final " + simpleType + " " + constant.getName() + " = " + constant.getInitializer() + ";",
+                            constant.getType())
+                    .apply(new Cursor(cursor.getParentOrThrow(), cd), cd.getBody().getCoordinates().firstStatement(), constant.getParameters());
+        }
+        return cd;
+    }
+
+    /**
+     * @return A constant name derived from the given text, e.g. {@code YYYY_MM_DD_FORMATTER} for
+     * {@code yyyy-MM-dd} and {@code FORMATTER}.
+     */
+    static String constantName(String text, String suffix) {
+        StringBuilder name = new StringBuilder();
+        for (char c : text.toCharArray()) {
+            if (Character.isLetterOrDigit(c) && c < 128) {
+                name.append(Character.toUpperCase(c));
+            } else if (name.length() > 0 && name.charAt(name.length() - 1) != '_') {
+                name.append('_');
+            }
+        }
+        if (name.length() > 0 && name.charAt(name.length() - 1) == '_') {
+            name.setLength(name.length() - 1);
+        }
+        if (name.length() == 0 || Character.isDigit(name.charAt(0))) {
+            return suffix;
+        }
+        return name + "_" + suffix;
+    }
+
+    @Value
+    private static class Constant {
+        String name;
+        String type;
+        String initializer;
+        Object[] parameters;
+
+        /**
+         * Whether the class already declares the constant.
+         */
+        boolean existing;
+
+        JavaType.Variable fieldType;
+    }
+}
@@ -15,17 +15,19 @@
  */
 package org.openrewrite.java.joda.time;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.ExecutionContext;
+import org.openrewrite.Option;
 import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
-import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.JavaVisitor;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.joda.time.table.JodaRecipePerformance;
+import org.openrewrite.java.joda.time.table.JodaSkippedSourceFiles;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.TypeUtils;
@@ -37,19 +39,46 @@ public class JodaAbstractInstantToJavaTime extends Recipe {
 
     String description = "Migrates Joda-Time `AbstractInstant` method calls to their Java time equivalents.";
 
-    private static final MethodMatcher IS_AFTER_LONG = new MethodMatcher("org.joda.time.base.AbstractInstant isAfter(long)");
-    private static final MethodMatcher IS_BEFORE_LONG = new MethodMatcher("org.joda.time.base.AbstractInstant isBefore(long)");
-    private static final MethodMatcher IS_BEFORE_NOW = new MethodMatcher("org.joda.time.base.AbstractInstant isBeforeNow()");
-    private static final MethodMatcher IS_EQUAL_LONG = new MethodMatcher("org.joda.time.base.AbstractInstant isEqual(long)");
-    private static final MethodMatcher TO_DATE = new MethodMatcher("org.joda.time.base.AbstractInstant toDate()");
-    private static final MethodMatcher TO_STRING_FORMATTER = new MethodMatcher("org.joda.time.base.AbstractInstant toString(org.joda.time.format.DateTimeFormatter)");
-    private static final MethodMatcher TO_INSTANT = new MethodMatcher("org.joda.time.base.AbstractInstant toInstant()");
-    private static final MethodMatcher GET_MILLIS = new MethodMatcher("org.joda.time.base.BaseDateTime getMillis()");
+    @Option(displayName = SystemDefaultZone.OPTION_DISPLAY_NAME,
+            description = SystemDefaultZone.OPTION_DESCRIPTION,
+            required = false)
+    @Nullable
+    Boolean cacheSystemDefaultZone;
+
+    transient JodaRecipePerformance performance = new JodaRecipePerformance(this);
+    transient JodaSkippedSourceFiles skipped = new JodaSkippedSourceFiles(this);
+
+    public JodaAbstractInstantToJavaTime() {
+        this(null);
+    }
+
+    @JsonCreator
+    public JodaAbstractInstantToJavaTime(@Nullable Boolean cacheSystemDefaultZone) {
+        this.cacheSystemDefaultZone = cacheSystemDefaultZone;
+    }
+
+    static final JodaMethodIndex METHODS = new JodaMethodIndex();
+
+    private static final MethodMatcher IS_AFTER_LONG = METHODS.matcher("org.joda.time.base.AbstractInstant isAfter(long)");
+    private static final MethodMatcher IS_BEFORE_LONG = METHODS.matcher("org.joda.time.base.AbstractInstant isBefore(long)");
+    private static final MethodMatcher IS_BEFORE_NOW = METHODS.matcher("org.joda.time.base.AbstractInstant isBeforeNow()");
+    private static final MethodMatcher IS_EQUAL_LONG = METHODS.matcher("org.joda.time.base.AbstractInstant isEqual(long)");
+    private static final MethodMatcher TO_DATE = METHODS.matcher("org.joda.time.base.AbstractInstant toDate()");
+    private static final MethodMatcher TO_STRING_FORMATTER = METHODS.matcher("org.joda.time.base.AbstractInstant toString(org.joda.time.format.DateTimeFormatter)");
+    private static final MethodMatcher TO_INSTANT = METHODS.matcher("org.joda.time.base.AbstractInstant toInstant()");
+    private static final MethodMatcher GET_MILLIS = METHODS.matcher("org.joda.time.base.BaseDateTime getMillis()");
 
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesType<>("org.joda.time.*", true), new JavaVisitor<ExecutionContext>() {
+        boolean cacheZone = Boolean.TRUE.equals(cacheSystemDefaultZone);
+        return JodaRecipeMetrics.measure(this, performance, skipped, Preconditions.check(new UsesJodaType<>(UsesJodaType.ANY), new JavaVisitor<ExecutionContext>() {
+            @Override
+            public J visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                J.ClassDeclaration cd = (J.ClassDeclaration) super.visitClassDeclaration(classDecl, ctx);
+                return HoistedConstants.declare(cd, getCursor());
+            }
+
             private boolean isInstantType(@Nullable Expression select) {
                 return select != null && TypeUtils.isOfClassType(select.getType(), "org.joda.time.Instant");
             }
@@ -57,67 +86,74 @@ public class JodaAbstractInstantToJavaTime extends Recipe {
             @Override
             public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
                 J.MethodInvocation m = (J.MethodInvocation) super.visitMethodInvocation(method, ctx);
+                // the matchers below do not report to the metrics
+                JodaRecipeMetrics.checkBudget();
+                if (METHODS.find(method.getMethodType()) == null) {
+                    return m;
+                }
                 if (IS_AFTER_LONG.matches(method)) {
                     if (isInstantType(method.getSelect())) {
                         maybeAddImport("java.time.Instant");
-                        return JavaTemplate.builder("#{any(java.time.Instant)}.isAfter(Instant.ofEpochMilli(#{any(long)}))")
-                                .imports("java.time.Instant").build()
+                        return JodaTemplates.get("#{any(java.time.Instant)}.isAfter(Instant.ofEpochMilli(#{any(long)}))", "java.time.Instant")
                                 .apply(getCursor(), m.getCoordinates().replace(),
                                         m.getSelect(), m.getArguments().get(0));
                     }
                     maybeAddImport("java.time.Instant");
                     maybeAddImport("java.time.ZoneId");
-                    return JavaTemplate.builder("#{any(java.time.ZonedDateTime)}.isAfter(Instant.ofEpochMilli(#{any(long)}).atZone(ZoneId.systemDefault()))")
-                            .imports("java.time.Instant", "java.time.ZoneId").build()
+                    return SystemDefaultZone.cache(cacheZone, JodaTemplates.get("#{any(java.time.ZonedDateTime)}.isAfter(Instant.ofEpochMilli(#{any(long)}).atZone(ZoneId.systemDefault()))", "java.time.Instant", "java.time.ZoneId")
                             .apply(getCursor(), m.getCoordinates().replace(),
-                                    m.getSelect(), m.getArguments().get(0));
+                                    m.getSelect(), m.getArguments().get(0)), getCursor());
                 }
                 if (IS_BEFORE_LONG.matches(method)) {
                     if (isInstantType(method.getSelect())) {
                         maybeAddImport("java.time.Instant");
-                        return JavaTemplate.builder("#{any(java.time.Instant)}.isBefore(Instant.ofEpochMilli(#{any(long)}))")
-                                .imports("java.time.Instant").build()
+                        return JodaTemplates.get("#{any(java.time.Instant)}.isBefore(Instant.ofEpochMilli(#{any(long)}))", "java.time.Instant")
                                 .apply(getCursor(), m.getCoordinates().replace(),
                                         m.getSelect(), m.getArguments().get(0));
                     }
                     maybeAddImport("java.time.Instant");
                     maybeAddImport("java.time.ZoneId");
-                    return JavaTemplate.builder("#{any(java.time.ZonedDateTime)}.isBefore(Instant.ofEpochMilli(#{any(long)}).atZone(ZoneId.systemDefault()))")
-                            .imports("java.time.Instant", "java.time.ZoneId").build()
+                    return SystemDefaultZone.cache(cacheZone, JodaTemplates.get("#{any(java.time.ZonedDateTime)}.isBefore(Instant.ofEpochMilli(#{any(long)}).atZone(ZoneId.systemDefault()))", "java.time.Instant", "java.time.ZoneId")
                             .apply(getCursor(), m.getCoordinates().replace(),
-                                    m.getSelect(), m.getArguments().get(0));
+                                    m.getSelect(), m.getArguments().get(0)), getCursor());
                 }
                 if (IS_BEFORE_NOW.matches(method)) {
                     maybeAddImport("java.time.ZonedDateTime");
-                    return JavaTemplate.builder("#{any(java.time.ZonedDateTime)}.isBefore(ZonedDateTime.now())")
-                            .imports("java.time.ZonedDateTime").build()
+                    return JodaTemplates.get("#{any(java.time.ZonedDateTime)}.isBefore(ZonedDateTime.now())", "java.time.ZonedDateTime")
                             .apply(getCursor(), m.getCoordinates().replace(), m.getSelect());
                 }
                 if (IS_EQUAL_LONG.matches(method)) {
                     maybeAddImport("java.time.Instant");
                     maybeAddImport("java.time.ZoneId");
-                    return JavaTemplate.builder("#{any(java.time.ZonedDateTime)}.isEqual(Instant.ofEpochMilli(#{any(long)}).atZone(ZoneId.systemDefault()))")
-                            .imports("java.time.Instant", "java.time.ZoneId").build()
+                    return SystemDefaultZone.cache(cacheZone, JodaTemplates.get("#{any(java.time.ZonedDateTime)}.isEqual(Instant.ofEpochMilli(#{any(long)}).atZone(ZoneId.systemDefault()))", "java.time.Instant", "java.time.ZoneId")
                             .apply(getCursor(), m.getCoordinates().replace(),
-                                    m.getSelect(), m.getArguments().get(0));
+                                    m.getSelect(), m.getArguments().get(0)), getCursor());
                 }
                 if (TO_DATE.matches(method)) {
                     maybeAddImport("java.util.Date");
-                    return JavaTemplate.builder("Date.from(#{any(java.time.ZonedDateTime)}.toInstant())")
-                            .imports("java.util.Date").build()
+                    return JodaTemplates.get("Date.from(#{any(java.time.ZonedDateTime)}.toInstant())", "java.util.Date")
                             .apply(getCursor(), m.getCoordinates().replace(), m.getSelect());
                 }
                 if (TO_STRING_FORMATTER.matches(method)) {
-                    return JavaTemplate.apply("#{any(java.time.ZonedDateTime)}.format(#{any(java.time.format.DateTimeFormatter)})", getCursor(), m.getCoordinates().replace(), m.getSelect(), m.getArguments().get(0));
+                    return JodaTemplates.get("#{any(java.time.ZonedDateTime)}.format(#{any(java.time.format.DateTimeFormatter)})").apply(getCursor(), m.getCoordinates().replace(), m.getSelect(), m.getArguments().get(0));
                 }
                 if (TO_INSTANT.matches(method)) {
-                    return JavaTemplate.apply("#{any(java.time.ZonedDateTime)}.toInstant()", getCursor(), m.getCoordinates().replace(), m.getSelect());
+                    J instant = EpochMillisRoundTrip.toInstant(m, getCursor());
+                    if (instant != null) {
+                        maybeAddImport("java.time.Instant");
+                        return instant;
+                    }
+                    return JodaTemplates.get("#{any(java.time.ZonedDateTime)}.toInstant()").apply(getCursor(), m.getCoordinates().replace(), m.getSelect());
                 }
                 if (GET_MILLIS.matches(method)) {
-                    return JavaTemplate.apply("#{any(java.time.ZonedDateTime)}.toInstant().toEpochMilli()", getCursor(), m.getCoordinates().replace(), m.getSelect());
+                    J epochMilli = EpochMillisRoundTrip.toEpochMilli(m, getCursor());
+                    if (epochMilli != null) {
+                        return epochMilli;
+                    }
+                    return JodaTemplates.get("#{any(java.time.ZonedDateTime)}.toInstant().toEpochMilli()").apply(getCursor(), m.getCoordinates().replace(), m.getSelect());
                 }
                 return m;
             }
-        });
+        }));
     }
 }
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.joda.time;
+
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.Recipe;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * Migrates many small repositories from Joda-Time to {@code java.time}, each with a {@link JodaMigration}.
+ * <p>
+ * Every repository is migrated on its own virtual thread when the JVM supports them, so that reading and
+ * writing the sources of one repository overlaps with parsing others. Parsing and running the recipe are
+ * bounded by a number of parser permits, as they are CPU-bound. The recipe is loaded once, and the sources
+ * are parsed against the Joda-Time classpath bundled as type table in {@code META-INF/rewrite/classpath.tsv.gz},
+ * so that no repository needs its own dependency resolution.
+ */
+public class JodaBatchMigration {
+    private final int parsers;
+    private final boolean incremental;
+
+    /**
+     * @param parsers     The number of repositories that are parsed and migrated at the same time.
+     * @param incremental Whether every repository keeps a {@link JodaMigrationManifest#DEFAULT_FILE_NAME manifest},
+     *                    so that later runs skip the unchanged files that are free of Joda-Time.
+     */
+    public JodaBatchMigration(int parsers, boolean incremental) {
+        if (parsers < 1) {
+            throw new IllegalArgumentException("parsers must be at least 1, but was " + parsers);
+        }
+        this.parsers = parsers;
+        this.incremental = incremental;
+    }
+
+    /**
+     * Usage: {@code JodaBatchMigration [--parsers <n>] [--incremental] <repositoryDir>...}
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int parsers = Runtime.getRuntime().availableProcessors();
+        boolean incremental = false;
+        List<Path> repositories = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if ("--parsers".equals(args[i]) && i + 1 < args.length) {
+                parsers = Integer.parseInt(args[++i]);
+            } else if ("--incremental".equals(args[i])) {
+                incremental = true;
+            } else {
+                repositories.add(Paths.get(args[i]));
+            }
+        }
+        if (repositories.isEmpty()) {
+            System.err.println("Usage: JodaBatchMigration [--parsers <n>] [--incremental] <repositoryDir>...");
+            System.exit(2);
+            return;
+        }
+        int failed = 0;
+        for (RepositoryResult result : new JodaBatchMigration(parsers, incremental).run(repositories, new InMemoryExecutionContext())) {
+            if (result.getError() != null) {
+                failed++;
+                System.err.println(result.getRepository() + ": " + result.getError());
+            } else if (result.getSummary() != null) {
+                System.out.println(result.getRepository() + ": migrated " + result.getSummary().getChanged() + " of " +
+                                   result.getSummary().getSourceFiles() + " source files");
+            }
+        }
+        if (failed > 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * @return The result of every repository, in the order of the given repositories. A repository that fails
+     * to migrate does not stop the migration of the others.
+     */
+    public List<RepositoryResult> run(Collection<Path> repositories, ExecutionContext ctx) throws InterruptedException {
+        List<Path> classpath = BundledClasspath.jodaTime();
+        Recipe recipe = JodaMigration.loadRecipe();
+        Semaphore parserPermits = new Semaphore(parsers);
+
+        ExecutorService executor = newExecutor(parsers);
+        try {
+            List<Future<RepositoryResult>> futures = new ArrayList<>(repositories.size());
+            for (Path repository : repositories) {
+                futures.add(executor.submit(() -> migrate(repository, classpath, recipe, parserPermits, ctx)));
+            }
+            List<RepositoryResult> results = new ArrayList<>(futures.size());
+            for (Future<RepositoryResult> future : futures) {
+                try {
+                    results.add(future.get());
+                } catch (ExecutionException e) {
+                    // migrate() reports its failures in the result
+                    throw new IllegalStateException(e.getCause());
+                }
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private RepositoryResult migrate(Path repository, List<Path> classpath, Recipe recipe,
+                                     Semaphore parserPermits, ExecutionContext ctx) {
+        Path manifest = incremental ? repository.resolve(JodaMigrationManifest.DEFAULT_FILE_NAME) : null;
+        try {
+            // execution contexts hold the state of a recipe run, so every repository gets its own
+            JodaMigration.Summary summary = new JodaMigration(repository, classpath, manifest)
+                    .run(new InMemoryExecutionContext(ctx::onError), recipe, parserPermits);
+            return new RepositoryResult(repository, summary, null);
+        } catch (Exception e) {
+            return new RepositoryResult(repository, null, e.toString());
+        }
+    }
+
+    /**
+     * @return An executor with a virtual thread per task on Java 21 and later, or a bounded pool of platform
+     * threads before, as this module targets Java 8.
+     */
+    static ExecutorService newExecutor(int parsers) {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            // enough threads to keep the parsers busy while others wait for the disk
+            return Executors.newFixedThreadPool(4 * parsers);
+        }
+    }
+
+    @Value
+    public static class RepositoryResult {
+        Path repository;
+
+        /**
+         * The summary of the migration, or {@code null} if it failed.
+         */
+        JodaMigration.@Nullable Summary summary;
+
+        /**
+         * The failure of the migration, or {@code null} if it succeeded.
+         */
+        @Nullable
+        String error;
+    }
+}
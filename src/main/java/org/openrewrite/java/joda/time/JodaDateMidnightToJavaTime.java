@@ -15,43 +15,140 @@
  */
 package org.openrewrite.java.joda.time;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
 import org.openrewrite.ExecutionContext;
+import org.openrewrite.Option;
 import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
+import org.openrewrite.Tree;
 import org.openrewrite.TreeVisitor;
-import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.JavaVisitor;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesType;
-import org.openrewrite.java.tree.J;
+import org.openrewrite.java.joda.time.table.JodaRecipePerformance;
+import org.openrewrite.java.joda.time.table.JodaSkippedSourceFiles;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static java.util.Collections.emptyList;
 
 @Value
 @EqualsAndHashCode(callSuper = false)
 public class JodaDateMidnightToJavaTime extends Recipe {
     String displayName = "Migrate Joda-Time `DateMidnight` to Java time";
 
-    String description = "Migrates `org.joda.time.DateMidnight` constructor and `now()` calls to `java.time.LocalDate.now().atStartOfDay(...)`.";
+    String description = "Migrates `org.joda.time.DateMidnight` constructor and `now()` calls to `java.time.LocalDate.now().atStartOfDay(...)`, " +
+                         "or to `ZonedDateTime.now(offset).truncatedTo(ChronoUnit.DAYS)` for fixed offset zones such as UTC.";
+
+    @Option(displayName = SystemDefaultZone.OPTION_DISPLAY_NAME,
+            description = SystemDefaultZone.OPTION_DESCRIPTION,
+            required = false)
+    @Nullable
+    Boolean cacheSystemDefaultZone;
+
+    @Option(displayName = "Prefer `LocalDate`",
+            description = "When `true`, local `DateMidnight` variables that are only used for their year, month and day are " +
+                          "migrated to `java.time.LocalDate` instead of `java.time.ZonedDateTime`. Variables created with a Joda-Time " +
+                          "`DateTimeZone` are kept until `JodaDateTimeZoneToJavaTime` migrated the zone.",
+            required = false)
+    @Nullable
+    Boolean preferLocalDate;
+
+    transient JodaRecipePerformance performance = new JodaRecipePerformance(this);
+    transient JodaSkippedSourceFiles skipped = new JodaSkippedSourceFiles(this);
+
+    public JodaDateMidnightToJavaTime() {
+        this(null, null);
+    }
+
+    @JsonCreator
+    public JodaDateMidnightToJavaTime(@Nullable Boolean cacheSystemDefaultZone, @Nullable Boolean preferLocalDate) {
+        this.cacheSystemDefaultZone = cacheSystemDefaultZone;
+        this.preferLocalDate = preferLocalDate;
+    }
+
+    private static final String LOCAL_DATES = "JODA_LOCAL_DATE_CANDIDATES";
+    private static final JavaType.FullyQualified LOCAL_DATE = JavaType.ShallowClass.build("java.time.LocalDate");
+
+    /**
+     * The methods that {@code LocalDate} and {@code ZonedDateTime} have in common with the same meaning, and the
+     * Joda-Time methods that the other recipes migrate to them, when they did not migrate the calls yet.
+     */
+    private static final List<String> DATE_ACCESSORS = Arrays.asList(
+            "getYear", "getMonth", "getMonthValue", "getMonthOfYear", "getDayOfMonth", "getDayOfYear", "getDayOfWeek", "toLocalDate");
+
+    static final JodaMethodIndex METHODS = new JodaMethodIndex();
 
-    private static final MethodMatcher CONSTRUCTOR = new MethodMatcher("org.joda.time.DateMidnight <constructor>()");
-    private static final MethodMatcher NOW = new MethodMatcher("org.joda.time.DateMidnight now()");
+    private static final MethodMatcher CONSTRUCTOR = METHODS.matcher("org.joda.time.DateMidnight <constructor>()");
+    private static final MethodMatcher CONSTRUCTOR_ZONE = METHODS.matcher("org.joda.time.DateMidnight <constructor>(org.joda.time.DateTimeZone)");
+    private static final MethodMatcher NOW = METHODS.matcher("org.joda.time.DateMidnight now()");
+    private static final MethodMatcher NOW_ZONE = METHODS.matcher("org.joda.time.DateMidnight now(org.joda.time.DateTimeZone)");
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesType<>("org.joda.time.DateMidnight", true), new JavaVisitor<ExecutionContext>() {
+        boolean cacheZone = Boolean.TRUE.equals(cacheSystemDefaultZone);
+        boolean localDates = Boolean.TRUE.equals(preferLocalDate);
+        return JodaRecipeMetrics.measure(this, performance, skipped, Preconditions.check(new UsesJodaType<>(UsesJodaType.DATE_MIDNIGHT), new JavaVisitor<ExecutionContext>() {
+            @Override
+            public J visitCompilationUnit(J.CompilationUnit cu, ExecutionContext ctx) {
+                if (localDates) {
+                    getCursor().putMessage(LOCAL_DATES, new DateOnlyUsage().candidates(cu));
+                }
+                return super.visitCompilationUnit(cu, ctx);
+            }
+
+            @Override
+            public J visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                J.ClassDeclaration cd = (J.ClassDeclaration) super.visitClassDeclaration(classDecl, ctx);
+                return HoistedConstants.declare(cd, getCursor());
+            }
+
+            @Override
+            public J visitVariableDeclarations(J.VariableDeclarations multiVariable, ExecutionContext ctx) {
+                J.VariableDeclarations mv = (J.VariableDeclarations) super.visitVariableDeclarations(multiVariable, ctx);
+                if (!isLocalDate(multiVariable.getVariables().get(0).getVariableType()) || mv.getTypeExpression() == null ||
+                    mv.getTypeExpression() instanceof J.Identifier && "var".equals(((J.Identifier) mv.getTypeExpression()).getSimpleName())) {
+                    return mv;
+                }
+                maybeAddImport("java.time.LocalDate");
+                return mv.withTypeExpression(new J.Identifier(Tree.randomId(), mv.getTypeExpression().getPrefix(), Markers.EMPTY,
+                        emptyList(), "LocalDate", LOCAL_DATE, null));
+            }
+
+            @Override
+            public J visitVariable(J.VariableDeclarations.NamedVariable variable, ExecutionContext ctx) {
+                J.VariableDeclarations.NamedVariable v = (J.VariableDeclarations.NamedVariable) super.visitVariable(variable, ctx);
+                JavaType.Variable variableType = variable.getVariableType();
+                if (isLocalDate(variableType)) {
+                    v = v.withVariableType(variableType.withType(LOCAL_DATE));
+                }
+                return v;
+            }
+
+            @Override
+            public J visitIdentifier(J.Identifier ident, ExecutionContext ctx) {
+                J.Identifier i = (J.Identifier) super.visitIdentifier(ident, ctx);
+                JavaType.Variable fieldType = ident.getFieldType();
+                if (isLocalDate(fieldType)) {
+                    i = i.withType(LOCAL_DATE).withFieldType(fieldType.withType(LOCAL_DATE));
+                }
+                return i;
+            }
+
             @Override
             public J visitNewClass(J.NewClass newClass, ExecutionContext ctx) {
                 J.NewClass nc = (J.NewClass) super.visitNewClass(newClass, ctx);
-                if (CONSTRUCTOR.matches(newClass)) {
-                    maybeAddImport("java.time.LocalDate");
-                    maybeAddImport("java.time.ZoneOffset");
-                    maybeAddImport("java.time.ZoneId");
-                    return JavaTemplate
-                            .builder("LocalDate.now().atStartOfDay(ZoneOffset.of(ZoneId.systemDefault().getId()))")
-                            .imports("java.time.LocalDate", "java.time.ZoneOffset", "java.time.ZoneId")
-                            .build()
-                            .apply(getCursor(), nc.getCoordinates().replace());
+                if (METHODS.find(newClass.getConstructorType()) != null) {
+                    return midnight(nc, nc.getArguments(), nc.getCoordinates().replace());
                 }
                 return nc;
             }
@@ -59,18 +156,154 @@ public class JodaDateMidnightToJavaTime extends Recipe {
             @Override
             public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
                 J.MethodInvocation m = (J.MethodInvocation) super.visitMethodInvocation(method, ctx);
-                if (NOW.matches(method)) {
+                if (METHODS.find(method.getMethodType()) != null) {
+                    return midnight(m, m.getArguments(), m.getCoordinates().replace());
+                }
+                if ("toLocalDate".equals(method.getSimpleName()) && method.getArguments().stream().allMatch(J.Empty.class::isInstance) &&
+                    isLocalDate(variableOf(method.getSelect()))) {
+                    return m.getSelect().withPrefix(m.getPrefix());
+                }
+                return m;
+            }
+
+            private J midnight(J tree, List<Expression> arguments, JavaCoordinates coordinates) {
+                Expression zone = arguments.get(0) instanceof J.Empty ? null : arguments.get(0);
+                if (zone != null && !isJavaTimeZone(zone)) {
+                    // the templates take a java.time zone, which JodaDateTimeZoneToJavaTime has not migrated this one to yet
+                    return tree;
+                }
+                if (isLocalDateValue()) {
+                    maybeAddImport("java.time.LocalDate");
+                    if (zone == null) {
+                        return JodaTemplates.get("LocalDate.now()", "java.time.LocalDate").apply(getCursor(), coordinates);
+                    }
+                    return JodaTemplates.get("LocalDate.now(#{any(java.time.ZoneId)})", "java.time.LocalDate")
+                            .apply(getCursor(), coordinates, zone);
+                }
+                if (zone == null) {
                     maybeAddImport("java.time.LocalDate");
                     maybeAddImport("java.time.ZoneOffset");
                     maybeAddImport("java.time.ZoneId");
-                    return JavaTemplate
-                            .builder("LocalDate.now().atStartOfDay(ZoneOffset.of(ZoneId.systemDefault().getId()))")
-                            .imports("java.time.LocalDate", "java.time.ZoneOffset", "java.time.ZoneId")
-                            .build()
-                            .apply(getCursor(), m.getCoordinates().replace());
+                    return SystemDefaultZone.cache(cacheZone, JodaTemplates.get("LocalDate.now().atStartOfDay(ZoneOffset.of(ZoneId.systemDefault().getId()))", "java.time.LocalDate", "java.time.ZoneOffset", "java.time.ZoneId")
+                            .apply(getCursor(), coordinates), getCursor());
                 }
-                return m;
+                if (TypeUtils.isOfClassType(zone.getType(), "java.time.ZoneOffset")) {
+                    // a fixed offset has no transitions, so the start of the day is always midnight
+                    maybeAddImport("java.time.ZonedDateTime");
+                    maybeAddImport("java.time.temporal.ChronoUnit");
+                    return JodaTemplates.get("ZonedDateTime.now(#{any(java.time.ZoneOffset)}).truncatedTo(ChronoUnit.DAYS)",
+                                    "java.time.ZonedDateTime", "java.time.temporal.ChronoUnit")
+                            .apply(getCursor(), coordinates, zone);
+                }
+                return tree;
+            }
+
+            private boolean isLocalDate(JavaType.@Nullable Variable variable) {
+                Set<JavaType.Variable> candidates = getCursor().getNearestMessage(LOCAL_DATES);
+                return variable != null && candidates != null && candidates.contains(variable);
+            }
+
+            /**
+             * @return {@code true} when the visited expression initializes or is assigned to a {@code LocalDate} candidate.
+             */
+            private boolean isLocalDateValue() {
+                Object parent = getCursor().getParentTreeCursor().getValue();
+                if (parent instanceof J.VariableDeclarations.NamedVariable) {
+                    return isLocalDate(((J.VariableDeclarations.NamedVariable) parent).getVariableType());
+                }
+                if (parent instanceof J.Assignment) {
+                    return isLocalDate(variableOf(((J.Assignment) parent).getVariable()));
+                }
+                return false;
+            }
+        }));
+    }
+
+    private static JavaType.@Nullable Variable variableOf(@Nullable Expression e) {
+        return e instanceof J.Identifier ? ((J.Identifier) e).getFieldType() : null;
+    }
+
+    private static boolean isJavaTimeZone(Expression zone) {
+        // JodaDateTimeZoneToJavaTime types DateTimeZone.UTC as a ZoneOffset without supertypes
+        return TypeUtils.isOfClassType(zone.getType(), "java.time.ZoneOffset") ||
+               TypeUtils.isAssignableTo("java.time.ZoneId", zone.getType());
+    }
+
+    private static boolean isDateMidnight(JavaType.@Nullable Variable variable) {
+        return variable != null && TypeUtils.isOfClassType(variable.getType(), "org.joda.time.DateMidnight");
+    }
+
+    /**
+     * Finds the local {@code DateMidnight} variables of a compilation unit that are only created for today and only
+     * used for their date. The other recipes already migrated the calls on them, so the uses are matched by the
+     * names of the {@code java.time} methods.
+     */
+    private static class DateOnlyUsage extends JavaIsoVisitor<Integer> {
+        private final Set<JavaType.Variable> declared = new HashSet<>();
+        private final Set<JavaType.Variable> disqualified = new HashSet<>();
+
+        Set<JavaType.Variable> candidates(J.CompilationUnit cu) {
+            visit(cu, 0);
+            Set<JavaType.Variable> candidates = new HashSet<>(declared);
+            candidates.removeAll(disqualified);
+            return candidates;
+        }
+
+        @Override
+        public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations multiVariable, Integer p) {
+            J.VariableDeclarations mv = super.visitVariableDeclarations(multiVariable, p);
+            if (!isDateMidnight(mv.getVariables().get(0).getVariableType())) {
+                return mv;
+            }
+            Cursor parent = getCursor().getParentTreeCursor();
+            boolean local = parent.getValue() instanceof J.Block && !(parent.getParentTreeCursor().getValue() instanceof J.ClassDeclaration);
+            boolean allLocalDates = local && mv.getVariables().stream().allMatch(v -> v.getInitializer() == null || isToday(v.getInitializer()));
+            for (J.VariableDeclarations.NamedVariable variable : mv.getVariables()) {
+                if (variable.getVariableType() != null) {
+                    declared.add(variable.getVariableType());
+                    if (!allLocalDates) {
+                        disqualified.add(variable.getVariableType());
+                    }
+                }
+            }
+            return mv;
+        }
+
+        @Override
+        public J.Identifier visitIdentifier(J.Identifier identifier, Integer p) {
+            JavaType.Variable variable = identifier.getFieldType();
+            if (!isDateMidnight(variable)) {
+                return identifier;
+            }
+            Object parent = getCursor().getParentTreeCursor().getValue();
+            if (parent instanceof J.VariableDeclarations.NamedVariable && ((J.VariableDeclarations.NamedVariable) parent).getName() == identifier) {
+                return identifier;
+            }
+            boolean dateOnly;
+            if (parent instanceof J.Assignment && ((J.Assignment) parent).getVariable() == identifier) {
+                dateOnly = isToday(((J.Assignment) parent).getAssignment());
+            } else if (parent instanceof J.MethodInvocation) {
+                J.MethodInvocation m = (J.MethodInvocation) parent;
+                dateOnly = m.getSelect() == identifier && DATE_ACCESSORS.contains(m.getSimpleName()) &&
+                           m.getArguments().stream().allMatch(J.Empty.class::isInstance);
+            } else {
+                dateOnly = false;
+            }
+            if (!dateOnly) {
+                disqualified.add(variable);
+            }
+            return identifier;
+        }
+
+        private static boolean isToday(Expression value) {
+            if (CONSTRUCTOR.matches(value) || NOW.matches(value)) {
+                return true;
+            }
+            // only when the zone can be passed on, see midnight(..)
+            if (CONSTRUCTOR_ZONE.matches(value)) {
+                return isJavaTimeZone(((J.NewClass) value).getArguments().get(0));
             }
-        });
+            return NOW_ZONE.matches(value) && isJavaTimeZone(((J.MethodInvocation) value).getArguments().get(0));
+        }
     }
 }
@@ -0,0 +1,353 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.joda.time;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.Tree;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.joda.time.table.JodaRecipePerformance;
+import org.openrewrite.java.joda.time.table.JodaSkippedSourceFiles;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+
+import java.util.*;
+
+import static java.util.Collections.emptyList;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class JodaDateTimeToInstant extends Recipe {
+    String displayName = "Migrate zone-free Joda-Time `DateTime` variables to `Instant`";
+
+    String description = "Migrates local variables and private fields of type `org.joda.time.DateTime` to `java.time.Instant` " +
+                         "when their time zone is never observed, i.e. when they are only created from the current time or " +
+                         "epoch milliseconds and only compared, converted to epoch milliseconds, `java.util.Date` or `Instant`. " +
+                         "Other `DateTime` variables are left to the `ZonedDateTime` migration.";
+
+    transient JodaRecipePerformance performance = new JodaRecipePerformance(this);
+    transient JodaSkippedSourceFiles skipped = new JodaSkippedSourceFiles(this);
+
+    private static final String CANDIDATES = "JODA_INSTANT_CANDIDATES";
+    private static final JavaType.FullyQualified INSTANT = JavaType.ShallowClass.build("java.time.Instant");
+
+    private static final MethodMatcher NEW_DT = new MethodMatcher("org.joda.time.DateTime <constructor>()");
+    private static final MethodMatcher NEW_DT_LONG = new MethodMatcher("org.joda.time.DateTime <constructor>(long)");
+    private static final MethodMatcher NOW = new MethodMatcher("org.joda.time.DateTime now()");
+
+    private static final MethodMatcher GET_MILLIS = new MethodMatcher("org.joda.time.base.BaseDateTime getMillis()");
+    private static final MethodMatcher TO_INSTANT = new MethodMatcher("org.joda.time.base.AbstractInstant toInstant()");
+    private static final MethodMatcher TO_DATE = new MethodMatcher("org.joda.time.base.AbstractInstant toDate()");
+    private static final MethodMatcher IS_AFTER_NOW = new MethodMatcher("org.joda.time.base.AbstractInstant isAfterNow()");
+    private static final MethodMatcher IS_BEFORE_NOW = new MethodMatcher("org.joda.time.base.AbstractInstant isBeforeNow()");
+    private static final MethodMatcher IS_AFTER_LONG = new MethodMatcher("org.joda.time.base.AbstractInstant isAfter(long)");
+    private static final MethodMatcher IS_BEFORE_LONG = new MethodMatcher("org.joda.time.base.AbstractInstant isBefore(long)");
+    private static final MethodMatcher IS_EQUAL_LONG = new MethodMatcher("org.joda.time.base.AbstractInstant isEqual(long)");
+    private static final MethodMatcher IS_AFTER = new MethodMatcher("org.joda.time.base.AbstractInstant isAfter(org.joda.time.ReadableInstant)");
+    private static final MethodMatcher IS_BEFORE = new MethodMatcher("org.joda.time.base.AbstractInstant isBefore(org.joda.time.ReadableInstant)");
+    private static final MethodMatcher IS_EQUAL = new MethodMatcher("org.joda.time.base.AbstractInstant isEqual(org.joda.time.ReadableInstant)");
+    private static final MethodMatcher COMPARE_TO = new MethodMatcher("org.joda.time.base.AbstractInstant compareTo(org.joda.time.ReadableInstant)");
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return JodaRecipeMetrics.measure(this, performance, skipped, Preconditions.check(new UsesJodaType<>(UsesJodaType.DATE_TIME), new JavaVisitor<ExecutionContext>() {
+            @Override
+            public J visitCompilationUnit(J.CompilationUnit cu, ExecutionContext ctx) {
+                Set<JavaType.Variable> candidates = new ZoneUsage().candidates(cu);
+                if (candidates.isEmpty()) {
+                    return cu;
+                }
+                getCursor().putMessage(CANDIDATES, candidates);
+                J j = super.visitCompilationUnit(cu, ctx);
+                maybeRemoveImport("org.joda.time.DateTime");
+                return j;
+            }
+
+            @Override
+            public J visitVariableDeclarations(J.VariableDeclarations multiVariable, ExecutionContext ctx) {
+                J.VariableDeclarations mv = (J.VariableDeclarations) super.visitVariableDeclarations(multiVariable, ctx);
+                if (!isCandidate(multiVariable.getVariables().get(0).getVariableType()) ||
+                    mv.getTypeExpression() == null || isVar(mv.getTypeExpression())) {
+                    return mv;
+                }
+                maybeAddImport("java.time.Instant");
+                return mv.withTypeExpression(new J.Identifier(Tree.randomId(), mv.getTypeExpression().getPrefix(), Markers.EMPTY,
+                        emptyList(), "Instant", INSTANT, null));
+            }
+
+            @Override
+            public J visitVariable(J.VariableDeclarations.NamedVariable variable, ExecutionContext ctx) {
+                J.VariableDeclarations.NamedVariable v = (J.VariableDeclarations.NamedVariable) super.visitVariable(variable, ctx);
+                JavaType.Variable variableType = variable.getVariableType();
+                if (isCandidate(variableType)) {
+                    v = v.withVariableType(variableType.withType(INSTANT));
+                }
+                return v;
+            }
+
+            @Override
+            public J visitIdentifier(J.Identifier ident, ExecutionContext ctx) {
+                J.Identifier i = (J.Identifier) super.visitIdentifier(ident, ctx);
+                JavaType.Variable fieldType = ident.getFieldType();
+                if (isCandidate(fieldType)) {
+                    i = i.withType(INSTANT).withFieldType(fieldType.withType(INSTANT));
+                }
+                return i;
+            }
+
+            @Override
+            public J visitNewClass(J.NewClass newClass, ExecutionContext ctx) {
+                J.NewClass nc = (J.NewClass) super.visitNewClass(newClass, ctx);
+                if (!isCandidateValue()) {
+                    return nc;
+                }
+                maybeAddImport("java.time.Instant");
+                if (NEW_DT.matches(newClass)) {
+                    return JodaTemplates.get("Instant.now()", "java.time.Instant")
+                            .apply(getCursor(), nc.getCoordinates().replace());
+                }
+                return JodaTemplates.get("Instant.ofEpochMilli(#{any(long)})", "java.time.Instant")
+                        .apply(getCursor(), nc.getCoordinates().replace(), nc.getArguments().get(0));
+            }
+
+            @Override
+            public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                J.MethodInvocation m = (J.MethodInvocation) super.visitMethodInvocation(method, ctx);
+                if (NOW.matches(method) && isCandidateValue()) {
+                    maybeAddImport("java.time.Instant");
+                    return JodaTemplates.get("Instant.now()", "java.time.Instant")
+                            .apply(getCursor(), m.getCoordinates().replace());
+                }
+                if (!isCandidate(variableOf(method.getSelect()))) {
+                    return m;
+                }
+                if (GET_MILLIS.matches(method)) {
+                    return JodaTemplates.get("#{any(java.time.Instant)}.toEpochMilli()")
+                            .apply(getCursor(), m.getCoordinates().replace(), m.getSelect());
+                }
+                if (TO_INSTANT.matches(method)) {
+                    return m.getSelect().withPrefix(m.getPrefix());
+                }
+                if (TO_DATE.matches(method)) {
+                    maybeAddImport("java.util.Date");
+                    return JodaTemplates.get("Date.from(#{any(java.time.Instant)})", "java.util.Date")
+                            .apply(getCursor(), m.getCoordinates().replace(), m.getSelect());
+                }
+                if (IS_AFTER_NOW.matches(method) || IS_BEFORE_NOW.matches(method)) {
+                    maybeAddImport("java.time.Instant");
+                    return JodaTemplates.get("#{any(java.time.Instant)}." + (IS_AFTER_NOW.matches(method) ? "isAfter" : "isBefore") +
+                                             "(Instant.now())", "java.time.Instant")
+                            .apply(getCursor(), m.getCoordinates().replace(), m.getSelect());
+                }
+                if (IS_AFTER_LONG.matches(method) || IS_BEFORE_LONG.matches(method) || IS_EQUAL_LONG.matches(method)) {
+                    maybeAddImport("java.time.Instant");
+                    return JodaTemplates.get("#{any(java.time.Instant)}." + comparison(method) + "(Instant.ofEpochMilli(#{any(long)}))",
+                                    "java.time.Instant")
+                            .apply(getCursor(), m.getCoordinates().replace(), m.getSelect(), m.getArguments().get(0));
+                }
+                // the argument is a candidate as well, see ZoneUsage
+                return JodaTemplates.get("#{any(java.time.Instant)}." + comparison(method) + "(#{any(java.time.Instant)})")
+                        .apply(getCursor(), m.getCoordinates().replace(), m.getSelect(), m.getArguments().get(0));
+            }
+
+            private String comparison(J.MethodInvocation method) {
+                if (IS_EQUAL.matches(method) || IS_EQUAL_LONG.matches(method)) {
+                    return "equals";
+                }
+                return method.getSimpleName();
+            }
+
+            private boolean isCandidate(JavaType.@Nullable Variable variable) {
+                Set<JavaType.Variable> candidates = getCursor().getNearestMessage(CANDIDATES);
+                return variable != null && candidates != null && candidates.contains(variable);
+            }
+
+            /**
+             * @return {@code true} when the visited expression initializes or is assigned to a candidate.
+             */
+            private boolean isCandidateValue() {
+                Object parent = getCursor().getParentTreeCursor().getValue();
+                if (parent instanceof J.VariableDeclarations.NamedVariable) {
+                    return isCandidate(((J.VariableDeclarations.NamedVariable) parent).getVariableType());
+                }
+                if (parent instanceof J.Assignment) {
+                    return isCandidate(variableOf(((J.Assignment) parent).getVariable()));
+                }
+                return false;
+            }
+        }));
+    }
+
+    private static boolean isVar(TypeTree typeExpression) {
+        return typeExpression instanceof J.Identifier && "var".equals(((J.Identifier) typeExpression).getSimpleName());
+    }
+
+    private static JavaType.@Nullable Variable variableOf(@Nullable Expression e) {
+        if (e instanceof J.Identifier) {
+            return ((J.Identifier) e).getFieldType();
+        }
+        if (e instanceof J.FieldAccess) {
+            return ((J.FieldAccess) e).getName().getFieldType();
+        }
+        return null;
+    }
+
+    private static boolean isAllowedValue(Expression value) {
+        return NEW_DT.matches(value) || NEW_DT_LONG.matches(value) || NOW.matches(value);
+    }
+
+    /**
+     * Finds the {@code DateTime} variables of a compilation unit whose zone is never observed. Values of
+     * candidates are never {@code null}, as fields must be initialized and assignments must create a value,
+     * so the migration does not need to preserve Joda-Time's treatment of {@code null} as the current time.
+     */
+    private static class ZoneUsage extends JavaIsoVisitor<Integer> {
+        private final Set<JavaType.Variable> declared = new HashSet<>();
+        private final Set<JavaType.Variable> disqualified = new HashSet<>();
+        private final List<JavaType.Variable[]> linked = new ArrayList<>();
+
+        Set<JavaType.Variable> candidates(J.CompilationUnit cu) {
+            visit(cu, 0);
+            for (JavaType.Variable[] link : linked) {
+                for (JavaType.Variable variable : link) {
+                    if (!declared.contains(variable)) {
+                        disqualified.add(variable);
+                    }
+                }
+            }
+            // variables that are compared with each other or declared together are migrated together
+            boolean changed = true;
+            while (changed) {
+                changed = false;
+                for (JavaType.Variable[] link : linked) {
+                    boolean first = disqualified.contains(link[0]);
+                    if (first != disqualified.contains(link[1])) {
+                        disqualified.add(first ? link[1] : link[0]);
+                        changed = true;
+                    }
+                }
+            }
+            Set<JavaType.Variable> candidates = new HashSet<>(declared);
+            candidates.removeAll(disqualified);
+            return candidates;
+        }
+
+        @Override
+        public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations multiVariable, Integer p) {
+            J.VariableDeclarations mv = super.visitVariableDeclarations(multiVariable, p);
+            JavaType.Variable first = mv.getVariables().get(0).getVariableType();
+            if (first == null || !TypeUtils.isOfClassType(first.getType(), "org.joda.time.DateTime")) {
+                return mv;
+            }
+            boolean field = isField();
+            boolean allowed = getCursor().getParentTreeCursor().getValue() instanceof J.Block &&
+                              (!field || isPrivateField(mv));
+            for (J.VariableDeclarations.NamedVariable variable : mv.getVariables()) {
+                JavaType.Variable variableType = variable.getVariableType();
+                if (variableType == null) {
+                    continue;
+                }
+                declared.add(variableType);
+                linked.add(new JavaType.Variable[]{first, variableType});
+                Expression initializer = variable.getInitializer();
+                if (!allowed || (initializer == null ? field : !isAllowedValue(initializer))) {
+                    disqualified.add(variableType);
+                }
+            }
+            return mv;
+        }
+
+        @Override
+        public J.Identifier visitIdentifier(J.Identifier identifier, Integer p) {
+            JavaType.Variable variable = identifier.getFieldType();
+            if (variable == null || !TypeUtils.isOfClassType(variable.getType(), "org.joda.time.DateTime")) {
+                return identifier;
+            }
+            Cursor expression = getCursor();
+            Object parent = expression.getParentTreeCursor().getValue();
+            if (parent instanceof J.VariableDeclarations.NamedVariable &&
+                ((J.VariableDeclarations.NamedVariable) parent).getName() == identifier) {
+                return identifier;
+            }
+            if (parent instanceof J.FieldAccess && ((J.FieldAccess) parent).getName() == identifier) {
+                expression = expression.getParentTreeCursor();
+                parent = expression.getParentTreeCursor().getValue();
+            }
+            if (!isZoneFree(expression.getValue(), parent, variable)) {
+                disqualified.add(variable);
+            }
+            return identifier;
+        }
+
+        private boolean isZoneFree(Expression read, Object parent, JavaType.Variable variable) {
+            if (parent instanceof J.Assignment && ((J.Assignment) parent).getVariable() == read) {
+                return isAllowedValue(((J.Assignment) parent).getAssignment());
+            }
+            if (parent instanceof J.Binary) {
+                J.Binary binary = (J.Binary) parent;
+                Expression other = binary.getLeft() == read ? binary.getRight() : binary.getLeft();
+                return (binary.getOperator() == J.Binary.Type.Equal || binary.getOperator() == J.Binary.Type.NotEqual) &&
+                       J.Literal.isLiteralValue(other, null);
+            }
+            if (!(parent instanceof J.MethodInvocation)) {
+                return false;
+            }
+            J.MethodInvocation m = (J.MethodInvocation) parent;
+            if (m.getSelect() == read) {
+                if (GET_MILLIS.matches(m) || TO_INSTANT.matches(m) || TO_DATE.matches(m) ||
+                    IS_AFTER_NOW.matches(m) || IS_BEFORE_NOW.matches(m) ||
+                    IS_AFTER_LONG.matches(m) || IS_BEFORE_LONG.matches(m) || IS_EQUAL_LONG.matches(m)) {
+                    return true;
+                }
+                if (IS_AFTER.matches(m) || IS_BEFORE.matches(m) || IS_EQUAL.matches(m) || COMPARE_TO.matches(m)) {
+                    JavaType.Variable other = variableOf(m.getArguments().get(0));
+                    if (other != null && TypeUtils.isOfClassType(other.getType(), "org.joda.time.DateTime")) {
+                        linked.add(new JavaType.Variable[]{variable, other});
+                        return true;
+                    }
+                }
+                return false;
+            }
+            // an argument of a comparison between candidates, which links them when visiting the select
+            JavaType.Variable select = variableOf(m.getSelect());
+            return select != null && TypeUtils.isOfClassType(select.getType(), "org.joda.time.DateTime") &&
+                   (IS_AFTER.matches(m) || IS_BEFORE.matches(m) || IS_EQUAL.matches(m) || COMPARE_TO.matches(m));
+        }
+
+        private boolean isField() {
+            Cursor block = getCursor().getParentTreeCursor();
+            return block.getValue() instanceof J.Block && block.getParentTreeCursor().getValue() instanceof J.ClassDeclaration;
+        }
+
+        /**
+         * Fields may be read reflectively, so only private fields without annotations of classes that are not
+         * serializable are migrated.
+         */
+        private boolean isPrivateField(J.VariableDeclarations field) {
+            J.ClassDeclaration classDecl = getCursor().firstEnclosingOrThrow(J.ClassDeclaration.class);
+            return field.hasModifier(J.Modifier.Type.Private) && field.getLeadingAnnotations().isEmpty() &&
+                   !TypeUtils.isAssignableTo("java.io.Serializable", classDecl.getType());
+        }
+    }
+}
@@ -21,10 +21,10 @@ import org.openrewrite.ExecutionContext;
 import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
-import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.JavaVisitor;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.joda.time.table.JodaRecipePerformance;
+import org.openrewrite.java.joda.time.table.JodaSkippedSourceFiles;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
 import org.openrewrite.java.tree.TypeUtils;
@@ -36,32 +36,38 @@ public class JodaDateTimeZoneToJavaTime extends Recipe {
 
     String description = "Migrates `org.joda.time.DateTimeZone` method calls to `java.time.ZoneOffset` and `java.time.ZoneId`.";
 
-    private static final MethodMatcher FOR_OFFSET_HOURS = new MethodMatcher("org.joda.time.DateTimeZone forOffsetHours(int)");
-    private static final MethodMatcher FOR_OFFSET_HOURS_MINUTES = new MethodMatcher("org.joda.time.DateTimeZone forOffsetHoursMinutes(int, int)");
-    private static final MethodMatcher FOR_TIMEZONE = new MethodMatcher("org.joda.time.DateTimeZone forTimeZone(java.util.TimeZone)");
+    transient JodaRecipePerformance performance = new JodaRecipePerformance(this);
+    transient JodaSkippedSourceFiles skipped = new JodaSkippedSourceFiles(this);
+
+    static final JodaMethodIndex METHODS = new JodaMethodIndex();
+
+    private static final MethodMatcher FOR_OFFSET_HOURS = METHODS.matcher("org.joda.time.DateTimeZone forOffsetHours(int)");
+    private static final MethodMatcher FOR_OFFSET_HOURS_MINUTES = METHODS.matcher("org.joda.time.DateTimeZone forOffsetHoursMinutes(int, int)");
+    private static final MethodMatcher FOR_TIMEZONE = METHODS.matcher("org.joda.time.DateTimeZone forTimeZone(java.util.TimeZone)");
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesType<>("org.joda.time.DateTimeZone", true), new JavaVisitor<ExecutionContext>() {
+        return JodaRecipeMetrics.measure(this, performance, skipped, Preconditions.check(new UsesJodaType<>(UsesJodaType.DATE_TIME_ZONE), new JavaVisitor<ExecutionContext>() {
             @Override
             public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
                 J.MethodInvocation m = (J.MethodInvocation) super.visitMethodInvocation(method, ctx);
+                if (METHODS.find(method.getMethodType()) == null) {
+                    return m;
+                }
                 if (FOR_OFFSET_HOURS.matches(method)) {
                     maybeAddImport("java.time.ZoneOffset");
-                    return JavaTemplate.builder("ZoneOffset.ofHours(#{any(int)})")
-                            .imports("java.time.ZoneOffset").build()
+                    return JodaTemplates.get("ZoneOffset.ofHours(#{any(int)})", "java.time.ZoneOffset")
                             .apply(getCursor(), m.getCoordinates().replace(), m.getArguments().get(0));
                 }
                 if (FOR_OFFSET_HOURS_MINUTES.matches(method)) {
                     maybeAddImport("java.time.ZoneOffset");
-                    return JavaTemplate.builder("ZoneOffset.ofHoursMinutes(#{any(int)}, #{any(int)})")
-                            .imports("java.time.ZoneOffset").build()
+                    return JodaTemplates.get("ZoneOffset.ofHoursMinutes(#{any(int)}, #{any(int)})", "java.time.ZoneOffset")
                             .apply(getCursor(), m.getCoordinates().replace(),
                                     m.getArguments().get(0), m.getArguments().get(1));
                 }
                 if (FOR_TIMEZONE.matches(method)) {
                     maybeAddImport("java.time.ZoneId");
-                    return JavaTemplate.apply("#{any(java.util.TimeZone)}.toZoneId()", getCursor(), m.getCoordinates().replace(), m.getArguments().get(0));
+                    return JodaTemplates.get("#{any(java.util.TimeZone)}.toZoneId()").apply(getCursor(), m.getCoordinates().replace(), m.getArguments().get(0));
                 }
                 return m;
             }
@@ -80,6 +86,6 @@ public class JodaDateTimeZoneToJavaTime extends Recipe {
                 }
                 return f;
             }
-        });
+        }));
     }
 }
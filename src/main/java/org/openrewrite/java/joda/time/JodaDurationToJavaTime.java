@@ -21,10 +21,10 @@ import org.openrewrite.ExecutionContext;
 import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
-import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.JavaVisitor;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.joda.time.table.JodaRecipePerformance;
+import org.openrewrite.java.joda.time.table.JodaSkippedSourceFiles;
 import org.openrewrite.java.tree.J;
 
 @Value
@@ -34,32 +34,38 @@ public class JodaDurationToJavaTime extends Recipe {
 
     String description = "Migrates `org.joda.time.Duration` constructor and method calls to `java.time.Duration`.";
 
-    private static final MethodMatcher NEW_DURATION = new MethodMatcher("org.joda.time.Duration <constructor>(long)");
-    private static final MethodMatcher NEW_DURATION_BETWEEN = new MethodMatcher("org.joda.time.Duration <constructor>(long, long)");
-    private static final MethodMatcher TO_DURATION = new MethodMatcher("org.joda.time.Duration toDuration()");
-    private static final MethodMatcher WITH_MILLIS = new MethodMatcher("org.joda.time.Duration withMillis(long)");
-    private static final MethodMatcher WITH_DURATION_ADDED_LONG = new MethodMatcher("org.joda.time.Duration withDurationAdded(long, int)");
-    private static final MethodMatcher WITH_DURATION_ADDED_RD = new MethodMatcher("org.joda.time.Duration withDurationAdded(org.joda.time.ReadableDuration, int)");
-    private static final MethodMatcher PLUS_LONG = new MethodMatcher("org.joda.time.Duration plus(long)");
-    private static final MethodMatcher MINUS_LONG = new MethodMatcher("org.joda.time.Duration minus(long)");
+    transient JodaRecipePerformance performance = new JodaRecipePerformance(this);
+    transient JodaSkippedSourceFiles skipped = new JodaSkippedSourceFiles(this);
+
+    static final JodaMethodIndex METHODS = new JodaMethodIndex();
+
+    private static final MethodMatcher NEW_DURATION = METHODS.matcher("org.joda.time.Duration <constructor>(long)");
+    private static final MethodMatcher NEW_DURATION_BETWEEN = METHODS.matcher("org.joda.time.Duration <constructor>(long, long)");
+    private static final MethodMatcher TO_DURATION = METHODS.matcher("org.joda.time.Duration toDuration()");
+    private static final MethodMatcher WITH_MILLIS = METHODS.matcher("org.joda.time.Duration withMillis(long)");
+    private static final MethodMatcher WITH_DURATION_ADDED_LONG = METHODS.matcher("org.joda.time.Duration withDurationAdded(long, int)");
+    private static final MethodMatcher WITH_DURATION_ADDED_RD = METHODS.matcher("org.joda.time.Duration withDurationAdded(org.joda.time.ReadableDuration, int)");
+    private static final MethodMatcher PLUS_LONG = METHODS.matcher("org.joda.time.Duration plus(long)");
+    private static final MethodMatcher MINUS_LONG = METHODS.matcher("org.joda.time.Duration minus(long)");
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesType<>("org.joda.time.Duration", true), new JavaVisitor<ExecutionContext>() {
+        return JodaRecipeMetrics.measure(this, performance, skipped, Preconditions.check(new UsesJodaType<>(UsesJodaType.DURATION), new JavaVisitor<ExecutionContext>() {
             @Override
             public J visitNewClass(J.NewClass newClass, ExecutionContext ctx) {
                 J.NewClass nc = (J.NewClass) super.visitNewClass(newClass, ctx);
+                if (METHODS.find(newClass.getConstructorType()) == null) {
+                    return nc;
+                }
                 if (NEW_DURATION.matches(newClass)) {
                     maybeAddImport("java.time.Duration");
-                    return JavaTemplate.builder("Duration.ofMillis(#{any(long)})")
-                            .imports("java.time.Duration").build()
+                    return JodaTemplates.get("Duration.ofMillis(#{any(long)})", "java.time.Duration")
                             .apply(getCursor(), nc.getCoordinates().replace(), nc.getArguments().get(0));
                 }
                 if (NEW_DURATION_BETWEEN.matches(newClass)) {
                     maybeAddImport("java.time.Duration");
                     maybeAddImport("java.time.Instant");
-                    return JavaTemplate.builder("Duration.between(Instant.ofEpochMilli(#{any(long)}), Instant.ofEpochMilli(#{any(long)}))")
-                            .imports("java.time.Duration", "java.time.Instant").build()
+                    return JodaTemplates.get("Duration.between(Instant.ofEpochMilli(#{any(long)}), Instant.ofEpochMilli(#{any(long)}))", "java.time.Duration", "java.time.Instant")
                             .apply(getCursor(), nc.getCoordinates().replace(),
                                     nc.getArguments().get(0), nc.getArguments().get(1));
                 }
@@ -69,29 +75,31 @@ public class JodaDurationToJavaTime extends Recipe {
             @Override
             public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
                 J.MethodInvocation m = (J.MethodInvocation) super.visitMethodInvocation(method, ctx);
+                if (METHODS.find(method.getMethodType()) == null) {
+                    return m;
+                }
                 if (TO_DURATION.matches(method)) {
-                    return JavaTemplate.apply("#{any(java.time.Duration)}", getCursor(), m.getCoordinates().replace(), m.getSelect());
+                    return JodaTemplates.get("#{any(java.time.Duration)}").apply(getCursor(), m.getCoordinates().replace(), m.getSelect());
                 }
                 if (WITH_MILLIS.matches(method)) {
                     maybeAddImport("java.time.Duration");
-                    return JavaTemplate.builder("Duration.ofMillis(#{any(long)})")
-                            .imports("java.time.Duration").build()
+                    return JodaTemplates.get("Duration.ofMillis(#{any(long)})", "java.time.Duration")
                             .apply(getCursor(), m.getCoordinates().replace(), m.getArguments().get(0));
                 }
                 if (WITH_DURATION_ADDED_LONG.matches(method)) {
-                    return JavaTemplate.apply("#{any(java.time.Duration)}.plusMillis(#{any(long)} * #{any(int)})", getCursor(), m.getCoordinates().replace(), m.getSelect(), m.getArguments().get(0), m.getArguments().get(1));
+                    return JodaTemplates.get("#{any(java.time.Duration)}.plusMillis(#{any(long)} * #{any(int)})").apply(getCursor(), m.getCoordinates().replace(), m.getSelect(), m.getArguments().get(0), m.getArguments().get(1));
                 }
                 if (WITH_DURATION_ADDED_RD.matches(method)) {
-                    return JavaTemplate.apply("#{any(java.time.Duration)}.plus(#{any(java.time.Duration)}.multipliedBy(#{any(int)}))", getCursor(), m.getCoordinates().replace(), m.getSelect(), m.getArguments().get(0), m.getArguments().get(1));
+                    return JodaTemplates.get("#{any(java.time.Duration)}.plus(#{any(java.time.Duration)}.multipliedBy(#{any(int)}))").apply(getCursor(), m.getCoordinates().replace(), m.getSelect(), m.getArguments().get(0), m.getArguments().get(1));
                 }
                 if (PLUS_LONG.matches(method)) {
-                    return JavaTemplate.apply("#{any(java.time.Duration)}.plusMillis(#{any(long)})", getCursor(), m.getCoordinates().replace(), m.getSelect(), m.getArguments().get(0));
+                    return JodaTemplates.get("#{any(java.time.Duration)}.plusMillis(#{any(long)})").apply(getCursor(), m.getCoordinates().replace(), m.getSelect(), m.getArguments().get(0));
                 }
                 if (MINUS_LONG.matches(method)) {
-                    return JavaTemplate.apply("#{any(java.time.Duration)}.minusMillis(#{any(long)})", getCursor(), m.getCoordinates().replace(), m.getSelect(), m.getArguments().get(0));
+                    return JodaTemplates.get("#{any(java.time.Duration)}.minusMillis(#{any(long)})").apply(getCursor(), m.getCoordinates().replace(), m.getSelect(), m.getArguments().get(0));
                 }
                 return m;
             }
-        });
+        }));
     }
 }
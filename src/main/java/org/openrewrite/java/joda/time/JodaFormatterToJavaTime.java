@@ -15,190 +15,179 @@
  */
 package org.openrewrite.java.joda.time;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
-import org.openrewrite.ExecutionContext;
-import org.openrewrite.Preconditions;
-import org.openrewrite.Recipe;
-import org.openrewrite.TreeVisitor;
-import org.openrewrite.java.JavaTemplate;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
 import org.openrewrite.java.JavaVisitor;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.joda.time.table.JodaRecipePerformance;
+import org.openrewrite.java.joda.time.table.JodaSkippedSourceFiles;
+import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
+
+import java.util.HashMap;
+import java.util.Map;
 
 @Value
 @EqualsAndHashCode(callSuper = false)
 public class JodaFormatterToJavaTime extends Recipe {
     String displayName = "Migrate Joda-Time formatter to Java time";
 
-    String description = "Migrates Joda-Time `DateTimeFormatter` and `DateTimeFormat` method calls to their Java time equivalents.";
-
-    // DateTimeFormatter methods (arg reordering)
-    private static final MethodMatcher PARSE_DATE_TIME = new MethodMatcher("org.joda.time.format.DateTimeFormatter parseDateTime(java.lang.String)");
-    private static final MethodMatcher PARSE_MILLIS = new MethodMatcher("org.joda.time.format.DateTimeFormatter parseMillis(java.lang.String)");
-    private static final MethodMatcher PRINT_LONG = new MethodMatcher("org.joda.time.format.DateTimeFormatter print(long)");
-    private static final MethodMatcher PRINT_READABLE_INSTANT = new MethodMatcher("org.joda.time.format.DateTimeFormatter print(org.joda.time.ReadableInstant)");
-    private static final MethodMatcher WITH_ZONE_UTC = new MethodMatcher("org.joda.time.format.DateTimeFormatter withZoneUTC()");
-
-    // DateTimeFormat localized methods
-    private static final MethodMatcher SHORT_DATE = new MethodMatcher("org.joda.time.format.DateTimeFormat shortDate()");
-    private static final MethodMatcher MEDIUM_DATE = new MethodMatcher("org.joda.time.format.DateTimeFormat mediumDate()");
-    private static final MethodMatcher LONG_DATE = new MethodMatcher("org.joda.time.format.DateTimeFormat longDate()");
-    private static final MethodMatcher FULL_DATE = new MethodMatcher("org.joda.time.format.DateTimeFormat fullDate()");
-    private static final MethodMatcher SHORT_TIME = new MethodMatcher("org.joda.time.format.DateTimeFormat shortTime()");
-    private static final MethodMatcher MEDIUM_TIME = new MethodMatcher("org.joda.time.format.DateTimeFormat mediumTime()");
-    private static final MethodMatcher LONG_TIME = new MethodMatcher("org.joda.time.format.DateTimeFormat longTime()");
-    private static final MethodMatcher FULL_TIME = new MethodMatcher("org.joda.time.format.DateTimeFormat fullTime()");
-    private static final MethodMatcher SHORT_DATE_TIME = new MethodMatcher("org.joda.time.format.DateTimeFormat shortDateTime()");
-    private static final MethodMatcher MEDIUM_DATE_TIME = new MethodMatcher("org.joda.time.format.DateTimeFormat mediumDateTime()");
-    private static final MethodMatcher LONG_DATE_TIME = new MethodMatcher("org.joda.time.format.DateTimeFormat longDateTime()");
-    private static final MethodMatcher FULL_DATE_TIME = new MethodMatcher("org.joda.time.format.DateTimeFormat fullDateTime()");
+    String description = "Migrates Joda-Time `DateTimeFormatter` and `DateTimeFormat` method calls to their Java time equivalents. " +
+                         "Optionally replaces literal patterns by predefined ISO formatters, such as `DateTimeFormatter.ISO_LOCAL_DATE`, " +
+                         "and lifts other formatters built from a literal pattern inside methods into `private static final` fields.";
+
+    @Option(displayName = "Hoist literal patterns",
+            description = "When `true`, `DateTimeFormat.forPattern(..)` calls with a literal pattern inside methods are replaced by " +
+                          "`private static final java.time.format.DateTimeFormatter` fields, so the pattern is only parsed once.",
+            required = false)
+    @Nullable
+    Boolean hoistLiteralPatterns;
+
+    @Option(displayName = SystemDefaultZone.OPTION_DISPLAY_NAME,
+            description = SystemDefaultZone.OPTION_DESCRIPTION,
+            required = false)
+    @Nullable
+    Boolean cacheSystemDefaultZone;
+
+    @Option(displayName = "Use predefined ISO formatters",
+            description = "When `true`, the literal pattern `yyyy-MM-dd` is replaced by `DateTimeFormatter.ISO_LOCAL_DATE`, and the patterns " +
+                          "`yyyy-MM-dd'T'HH:mm:ss`, `yyyy-MM-dd'T'HH:mm`, `HH:mm:ss` and `HH:mm` of formatters that only parse by " +
+                          "`ISO_LOCAL_DATE_TIME` or `ISO_LOCAL_TIME`. The predefined formatters behave differently: they resolve strictly, " +
+                          "so invalid dates such as `2023-02-30` are rejected instead of adjusted, they use the proleptic year instead of " +
+                          "the year of era, and they also accept optional seconds and fractions of seconds that the patterns reject.",
+            required = false)
+    @Nullable
+    Boolean useIsoFormatters;
+
+    transient JodaRecipePerformance performance = new JodaRecipePerformance(this);
+    transient JodaSkippedSourceFiles skipped = new JodaSkippedSourceFiles(this);
+
+    public JodaFormatterToJavaTime() {
+        this(null, null, null);
+    }
+
+    @JsonCreator
+    public JodaFormatterToJavaTime(@Nullable Boolean hoistLiteralPatterns, @Nullable Boolean cacheSystemDefaultZone,
+                                   @Nullable Boolean useIsoFormatters) {
+        this.hoistLiteralPatterns = hoistLiteralPatterns;
+        this.cacheSystemDefaultZone = cacheSystemDefaultZone;
+        this.useIsoFormatters = useIsoFormatters;
+    }
+
+    // The calls that map to a template without further analysis are rewritten by the rules in JodaRules
+    static final JodaMethodIndex METHODS = new JodaMethodIndex();
+
+    // DateTimeFormat factories, ofPattern being forPattern after the Phase 1 renames of NoJodaTime
+    private static final MethodMatcher FOR_PATTERN = METHODS.matcher("org.joda.time.format.DateTimeFormat forPattern(java.lang.String)");
+    private static final MethodMatcher OF_PATTERN = METHODS.matcher("org.joda.time.format.DateTimeFormat ofPattern(java.lang.String)");
+
+    // Patterns with a predefined formatter that formats the same way, but resolves more strictly when parsing
+    private static final Map<String, String> ISO_FORMATTERS = new HashMap<>();
+    // Patterns with a predefined formatter that parses more leniently, and also prints fractional seconds when formatting
+    private static final Map<String, String> ISO_PARSERS = new HashMap<>();
+
+    static {
+        ISO_FORMATTERS.put("yyyy-MM-dd", "ISO_LOCAL_DATE");
+        ISO_PARSERS.put("yyyy-MM-dd'T'HH:mm:ss", "ISO_LOCAL_DATE_TIME");
+        ISO_PARSERS.put("yyyy-MM-dd'T'HH:mm", "ISO_LOCAL_DATE_TIME");
+        ISO_PARSERS.put("HH:mm:ss", "ISO_LOCAL_TIME");
+        ISO_PARSERS.put("HH:mm", "ISO_LOCAL_TIME");
+    }
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesType<>("org.joda.time.format.*", true), new JavaVisitor<ExecutionContext>() {
+        boolean hoist = Boolean.TRUE.equals(hoistLiteralPatterns);
+        boolean iso = Boolean.TRUE.equals(useIsoFormatters);
+        boolean cacheZone = Boolean.TRUE.equals(cacheSystemDefaultZone);
+        return JodaRecipeMetrics.measure(this, performance, skipped, Preconditions.check(new UsesJodaType<>(UsesJodaType.FORMAT), new JavaVisitor<ExecutionContext>() {
+            private final JodaRewriteRule.Parameters parameters = new JodaRewriteRule.Parameters();
+
+            @Override
+            public J visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                J.ClassDeclaration cd = (J.ClassDeclaration) super.visitClassDeclaration(classDecl, ctx);
+                return HoistedConstants.declare(cd, getCursor());
+            }
+
             @Override
             public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
                 J.MethodInvocation m = (J.MethodInvocation) super.visitMethodInvocation(method, ctx);
-
-                // DateTimeFormatter methods (arg reordering: formatter.method(arg) → Type.method(arg, formatter))
-                if (PARSE_DATE_TIME.matches(method)) {
-                    maybeAddImport("java.time.ZonedDateTime");
-                    return JavaTemplate
-                            .builder("ZonedDateTime.parse(#{any(java.lang.String)}, #{any(java.time.format.DateTimeFormatter)})")
-                            .imports("java.time.ZonedDateTime").build()
-                            .apply(getCursor(), m.getCoordinates().replace(),
-                                    m.getArguments().get(0), m.getSelect());
-                }
-                if (PARSE_MILLIS.matches(method)) {
-                    maybeAddImport("java.time.ZonedDateTime");
-                    return JavaTemplate
-                            .builder("ZonedDateTime.parse(#{any(java.lang.String)}, #{any(java.time.format.DateTimeFormatter)}).toInstant().toEpochMilli()")
-                            .imports("java.time.ZonedDateTime").build()
-                            .apply(getCursor(), m.getCoordinates().replace(),
-                                    m.getArguments().get(0), m.getSelect());
-                }
-                if (PRINT_LONG.matches(method)) {
-                    maybeAddImport("java.time.ZonedDateTime");
-                    maybeAddImport("java.time.Instant");
-                    maybeAddImport("java.time.ZoneId");
-                    return JavaTemplate
-                            .builder("ZonedDateTime.ofInstant(Instant.ofEpochMilli(#{any(long)}), ZoneId.systemDefault()).format(#{any(java.time.format.DateTimeFormatter)})")
-                            .imports("java.time.ZonedDateTime", "java.time.Instant", "java.time.ZoneId").build()
-                            .apply(getCursor(), m.getCoordinates().replace(),
-                                    m.getArguments().get(0), m.getSelect());
-                }
-                if (PRINT_READABLE_INSTANT.matches(method)) {
-                    return JavaTemplate.apply("#{any(java.time.ZonedDateTime)}.format(#{any(java.time.format.DateTimeFormatter)})", getCursor(), m.getCoordinates().replace(), m.getArguments().get(0), m.getSelect());
-                }
-                if (WITH_ZONE_UTC.matches(method)) {
-                    maybeAddImport("java.time.ZoneOffset");
-                    return JavaTemplate
-                            .builder("#{any(java.time.format.DateTimeFormatter)}.withZone(ZoneOffset.UTC)")
-                            .imports("java.time.ZoneOffset").build()
-                            .apply(getCursor(), m.getCoordinates().replace(), m.getSelect());
+                JodaRewriteRule rule = JodaRules.TABLE.find(JodaFormatterToJavaTime.class, method.getMethodType());
+                MethodMatcher matched = rule == null ? METHODS.find(method.getMethodType()) : null;
+                JodaRecipeMetrics.dispatched(method.getMethodType(), rule != null || matched != null);
+                if (rule != null) {
+                    for (String anImport : rule.getImports()) {
+                        maybeAddImport(anImport);
+                    }
+                    return SystemDefaultZone.cache(cacheZone && rule.usesSystemDefaultZone(), rule.apply(getCursor(), m, parameters), getCursor());
+                }
+                if (matched == null) {
+                    return m;
                 }
 
-                // DateTimeFormat localized methods
-                if (SHORT_DATE.matches(method)) {
-                    maybeAddImport("java.time.format.DateTimeFormatter");
-                    maybeAddImport("java.time.format.FormatStyle");
-                    return JavaTemplate
-                            .builder("DateTimeFormatter.ofLocalizedDate(FormatStyle.SHORT)")
-                            .imports("java.time.format.DateTimeFormatter", "java.time.format.FormatStyle").build()
-                            .apply(getCursor(), m.getCoordinates().replace());
-                }
-                if (MEDIUM_DATE.matches(method)) {
+                if (matched == FOR_PATTERN || matched == OF_PATTERN) {
+                    Expression pattern = m.getArguments().get(0);
+                    String isoFormatter = iso && pattern instanceof J.Literal ?
+                            isoFormatter(method, String.valueOf(((J.Literal) pattern).getValue())) : null;
+                    if (isoFormatter != null) {
+                        maybeAddImport("java.time.format.DateTimeFormatter");
+                        return JodaTemplates.get("DateTimeFormatter." + isoFormatter, "java.time.format.DateTimeFormatter")
+                                .apply(getCursor(), m.getCoordinates().replace());
+                    }
+                    Cursor target = hoist && pattern instanceof J.Literal ? HoistedConstants.target(getCursor()) : null;
+                    if (target == null) {
+                        return m;
+                    }
+                    String patternValue = String.valueOf(((J.Literal) pattern).getValue());
+                    if (!isValidPattern(patternValue)) {
+                        return m;
+                    }
                     maybeAddImport("java.time.format.DateTimeFormatter");
-                    maybeAddImport("java.time.format.FormatStyle");
-                    return JavaTemplate
-                            .builder("DateTimeFormatter.ofLocalizedDate(FormatStyle.MEDIUM)")
-                            .imports("java.time.format.DateTimeFormatter", "java.time.format.FormatStyle").build()
-                            .apply(getCursor(), m.getCoordinates().replace());
-                }
-                if (LONG_DATE.matches(method)) {
-                    maybeAddImport("java.time.format.DateTimeFormatter");
-                    maybeAddImport("java.time.format.FormatStyle");
-                    return JavaTemplate
-                            .builder("DateTimeFormatter.ofLocalizedDate(FormatStyle.LONG)")
-                            .imports("java.time.format.DateTimeFormatter", "java.time.format.FormatStyle").build()
-                            .apply(getCursor(), m.getCoordinates().replace());
-                }
-                if (FULL_DATE.matches(method)) {
-                    maybeAddImport("java.time.format.DateTimeFormatter");
-                    maybeAddImport("java.time.format.FormatStyle");
-                    return JavaTemplate
-                            .builder("DateTimeFormatter.ofLocalizedDate(FormatStyle.FULL)")
-                            .imports("java.time.format.DateTimeFormatter", "java.time.format.FormatStyle").build()
-                            .apply(getCursor(), m.getCoordinates().replace());
-                }
-                if (SHORT_TIME.matches(method)) {
-                    maybeAddImport("java.time.format.DateTimeFormatter");
-                    maybeAddImport("java.time.format.FormatStyle");
-                    return JavaTemplate
-                            .builder("DateTimeFormatter.ofLocalizedTime(FormatStyle.SHORT)")
-                            .imports("java.time.format.DateTimeFormatter", "java.time.format.FormatStyle").build()
-                            .apply(getCursor(), m.getCoordinates().replace());
-                }
-                if (MEDIUM_TIME.matches(method)) {
-                    maybeAddImport("java.time.format.DateTimeFormatter");
-                    maybeAddImport("java.time.format.FormatStyle");
-                    return JavaTemplate
-                            .builder("DateTimeFormatter.ofLocalizedTime(FormatStyle.MEDIUM)")
-                            .imports("java.time.format.DateTimeFormatter", "java.time.format.FormatStyle").build()
-                            .apply(getCursor(), m.getCoordinates().replace());
-                }
-                if (LONG_TIME.matches(method)) {
-                    maybeAddImport("java.time.format.DateTimeFormatter");
-                    maybeAddImport("java.time.format.FormatStyle");
-                    return JavaTemplate
-                            .builder("DateTimeFormatter.ofLocalizedTime(FormatStyle.LONG)")
-                            .imports("java.time.format.DateTimeFormatter", "java.time.format.FormatStyle").build()
-                            .apply(getCursor(), m.getCoordinates().replace());
-                }
-                if (FULL_TIME.matches(method)) {
-                    maybeAddImport("java.time.format.DateTimeFormatter");
-                    maybeAddImport("java.time.format.FormatStyle");
-                    return JavaTemplate
-                            .builder("DateTimeFormatter.ofLocalizedTime(FormatStyle.FULL)")
-                            .imports("java.time.format.DateTimeFormatter", "java.time.format.FormatStyle").build()
-                            .apply(getCursor(), m.getCoordinates().replace());
-                }
-                if (SHORT_DATE_TIME.matches(method)) {
-                    maybeAddImport("java.time.format.DateTimeFormatter");
-                    maybeAddImport("java.time.format.FormatStyle");
-                    return JavaTemplate
-                            .builder("DateTimeFormatter.ofLocalizedDateTime(FormatStyle.SHORT, FormatStyle.SHORT)")
-                            .imports("java.time.format.DateTimeFormatter", "java.time.format.FormatStyle").build()
-                            .apply(getCursor(), m.getCoordinates().replace());
-                }
-                if (MEDIUM_DATE_TIME.matches(method)) {
-                    maybeAddImport("java.time.format.DateTimeFormatter");
-                    maybeAddImport("java.time.format.FormatStyle");
-                    return JavaTemplate
-                            .builder("DateTimeFormatter.ofLocalizedDateTime(FormatStyle.MEDIUM, FormatStyle.MEDIUM)")
-                            .imports("java.time.format.DateTimeFormatter", "java.time.format.FormatStyle").build()
-                            .apply(getCursor(), m.getCoordinates().replace());
-                }
-                if (LONG_DATE_TIME.matches(method)) {
-                    maybeAddImport("java.time.format.DateTimeFormatter");
-                    maybeAddImport("java.time.format.FormatStyle");
-                    return JavaTemplate
-                            .builder("DateTimeFormatter.ofLocalizedDateTime(FormatStyle.LONG, FormatStyle.LONG)")
-                            .imports("java.time.format.DateTimeFormatter", "java.time.format.FormatStyle").build()
-                            .apply(getCursor(), m.getCoordinates().replace());
-                }
-                if (FULL_DATE_TIME.matches(method)) {
-                    maybeAddImport("java.time.format.DateTimeFormatter");
-                    maybeAddImport("java.time.format.FormatStyle");
-                    return JavaTemplate
-                            .builder("DateTimeFormatter.ofLocalizedDateTime(FormatStyle.FULL, FormatStyle.FULL)")
-                            .imports("java.time.format.DateTimeFormatter", "java.time.format.FormatStyle").build()
-                            .apply(getCursor(), m.getCoordinates().replace());
+                    return HoistedConstants.reference(target, "DateTimeFormatter.ofPattern(" + ((J.Literal) pattern).getValueSource() + ")",
+                                    HoistedConstants.constantName(patternValue, "FORMATTER"), "java.time.format.DateTimeFormatter",
+                                    "DateTimeFormatter.ofPattern(#{any(java.lang.String)})", pattern)
+                            .withPrefix(m.getPrefix());
                 }
                 return m;
             }
-        });
+
+            /**
+             * A hoisted pattern is parsed when the class is initialized, so an invalid pattern would fail the
+             * initialization of the whole class instead of the call that uses it.
+             */
+            private boolean isValidPattern(String pattern) {
+                try {
+                    java.time.format.DateTimeFormatter.ofPattern(pattern);
+                    return true;
+                } catch (IllegalArgumentException e) {
+                    return false;
+                }
+            }
+
+            private @Nullable String isoFormatter(J.MethodInvocation forPattern, String pattern) {
+                String iso = ISO_FORMATTERS.get(pattern);
+                if (iso != null) {
+                    return iso;
+                }
+                iso = ISO_PARSERS.get(pattern);
+                if (iso == null) {
+                    return null;
+                }
+                // only when the formatter is built to parse, as in DateTimeFormat.forPattern("HH:mm").parseDateTime(text)
+                Object parent = getCursor().getParentTreeCursor().getValue();
+                if (parent instanceof J.MethodInvocation && ((J.MethodInvocation) parent).getSelect() == forPattern) {
+                    JavaType.Method parentType = ((J.MethodInvocation) parent).getMethodType();
+                    if (parentType != null && parentType.getName().startsWith("parse") &&
+                        TypeUtils.isOfClassType(parentType.getDeclaringType(), "org.joda.time.format.DateTimeFormatter")) {
+                        return iso;
+                    }
+                }
+                return null;
+            }
+        }));
     }
 }
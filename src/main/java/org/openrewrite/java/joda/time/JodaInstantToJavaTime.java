@@ -21,10 +21,10 @@ import org.openrewrite.ExecutionContext;
 import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
-import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.JavaVisitor;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.joda.time.table.JodaRecipePerformance;
+import org.openrewrite.java.joda.time.table.JodaSkippedSourceFiles;
 import org.openrewrite.java.tree.J;
 
 @Value
@@ -34,23 +34,29 @@ public class JodaInstantToJavaTime extends Recipe {
 
     String description = "Migrates `org.joda.time.Instant` constructor calls to `java.time.Instant.now()`.";
 
-    private static final MethodMatcher CONSTRUCTOR = new MethodMatcher("org.joda.time.Instant <constructor>()");
+    transient JodaRecipePerformance performance = new JodaRecipePerformance(this);
+    transient JodaSkippedSourceFiles skipped = new JodaSkippedSourceFiles(this);
+
+    static final JodaMethodIndex METHODS = new JodaMethodIndex();
+
+    private static final MethodMatcher CONSTRUCTOR = METHODS.matcher("org.joda.time.Instant <constructor>()");
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesType<>("org.joda.time.Instant", true), new JavaVisitor<ExecutionContext>() {
+        return JodaRecipeMetrics.measure(this, performance, skipped, Preconditions.check(new UsesJodaType<>(UsesJodaType.INSTANT), new JavaVisitor<ExecutionContext>() {
             @Override
             public J visitNewClass(J.NewClass newClass, ExecutionContext ctx) {
                 J.NewClass nc = (J.NewClass) super.visitNewClass(newClass, ctx);
+                if (METHODS.find(newClass.getConstructorType()) == null) {
+                    return nc;
+                }
                 if (CONSTRUCTOR.matches(newClass)) {
                     maybeAddImport("java.time.Instant");
-                    return JavaTemplate.builder("Instant.now()")
-                            .imports("java.time.Instant")
-                            .build()
+                    return JodaTemplates.get("Instant.now()", "java.time.Instant")
                             .apply(getCursor(), nc.getCoordinates().replace());
                 }
                 return nc;
             }
-        });
+        }));
     }
 }
@@ -15,18 +15,19 @@
  */
 package org.openrewrite.java.joda.time;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
+import org.jspecify.annotations.Nullable;
 import org.openrewrite.ExecutionContext;
-import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.Option;
 import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
-import org.openrewrite.java.JavaParser;
-import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.JavaVisitor;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.joda.time.table.JodaRecipePerformance;
+import org.openrewrite.java.joda.time.table.JodaSkippedSourceFiles;
 import org.openrewrite.java.tree.J;
 
 @Value
@@ -36,48 +37,72 @@ public class JodaIntervalToJavaTime extends Recipe {
 
     String description = "Migrates `org.joda.time.Interval` constructors and methods to their Java time equivalents using ThreeTen-Extra.";
 
+    @Option(displayName = SystemDefaultZone.OPTION_DISPLAY_NAME,
+            description = SystemDefaultZone.OPTION_DESCRIPTION,
+            required = false)
+    @Nullable
+    Boolean cacheSystemDefaultZone;
+
+    transient JodaRecipePerformance performance = new JodaRecipePerformance(this);
+    transient JodaSkippedSourceFiles skipped = new JodaSkippedSourceFiles(this);
+
+    public JodaIntervalToJavaTime() {
+        this(null);
+    }
+
+    @JsonCreator
+    public JodaIntervalToJavaTime(@Nullable Boolean cacheSystemDefaultZone) {
+        this.cacheSystemDefaultZone = cacheSystemDefaultZone;
+    }
+
+    static final JodaMethodIndex METHODS = new JodaMethodIndex();
+
     // Constructors
-    private static final MethodMatcher NEW_INTERVAL_LONGS = new MethodMatcher("org.joda.time.Interval <constructor>(long, long)");
-    private static final MethodMatcher NEW_INTERVAL_LONGS_ZONE = new MethodMatcher("org.joda.time.Interval <constructor>(long, long, org.joda.time.DateTimeZone)");
-    private static final MethodMatcher NEW_INTERVAL_RI_RI = new MethodMatcher("org.joda.time.Interval <constructor>(org.joda.time.ReadableInstant, org.joda.time.ReadableInstant)");
-    private static final MethodMatcher NEW_INTERVAL_RI_RD = new MethodMatcher("org.joda.time.Interval <constructor>(org.joda.time.ReadableInstant, org.joda.time.ReadableDuration)");
+    private static final MethodMatcher NEW_INTERVAL_LONGS = METHODS.matcher("org.joda.time.Interval <constructor>(long, long)");
+    private static final MethodMatcher NEW_INTERVAL_LONGS_ZONE = METHODS.matcher("org.joda.time.Interval <constructor>(long, long, org.joda.time.DateTimeZone)");
+    private static final MethodMatcher NEW_INTERVAL_RI_RI = METHODS.matcher("org.joda.time.Interval <constructor>(org.joda.time.ReadableInstant, org.joda.time.ReadableInstant)");
+    private static final MethodMatcher NEW_INTERVAL_RI_RD = METHODS.matcher("org.joda.time.Interval <constructor>(org.joda.time.ReadableInstant, org.joda.time.ReadableDuration)");
     // AbstractInterval methods
-    private static final MethodMatcher GET_START = new MethodMatcher("org.joda.time.base.AbstractInterval getStart()");
-    private static final MethodMatcher GET_END = new MethodMatcher("org.joda.time.base.AbstractInterval getEnd()");
-    private static final MethodMatcher TO_DURATION_MILLIS = new MethodMatcher("org.joda.time.base.AbstractInterval toDurationMillis()");
-    private static final MethodMatcher CONTAINS = new MethodMatcher("org.joda.time.base.AbstractInterval contains(long)");
+    private static final MethodMatcher GET_START = METHODS.matcher("org.joda.time.base.AbstractInterval getStart()");
+    private static final MethodMatcher GET_END = METHODS.matcher("org.joda.time.base.AbstractInterval getEnd()");
+    private static final MethodMatcher TO_DURATION_MILLIS = METHODS.matcher("org.joda.time.base.AbstractInterval toDurationMillis()");
+    private static final MethodMatcher CONTAINS = METHODS.matcher("org.joda.time.base.AbstractInterval contains(long)");
     // BaseInterval methods
-    private static final MethodMatcher GET_START_MILLIS = new MethodMatcher("org.joda.time.base.BaseInterval getStartMillis()");
-    private static final MethodMatcher GET_END_MILLIS = new MethodMatcher("org.joda.time.base.BaseInterval getEndMillis()");
+    private static final MethodMatcher GET_START_MILLIS = METHODS.matcher("org.joda.time.base.BaseInterval getStartMillis()");
+    private static final MethodMatcher GET_END_MILLIS = METHODS.matcher("org.joda.time.base.BaseInterval getEndMillis()");
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesType<>("org.joda.time.*Interval*", true), new JavaVisitor<ExecutionContext>() {
+        boolean cacheZone = Boolean.TRUE.equals(cacheSystemDefaultZone);
+        return JodaRecipeMetrics.measure(this, performance, skipped, Preconditions.check(new UsesJodaType<>(UsesJodaType.INTERVAL), new JavaVisitor<ExecutionContext>() {
+            @Override
+            public J visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                J.ClassDeclaration cd = (J.ClassDeclaration) super.visitClassDeclaration(classDecl, ctx);
+                return HoistedConstants.declare(cd, getCursor());
+            }
+
             @Override
             public J visitNewClass(J.NewClass newClass, ExecutionContext ctx) {
                 J.NewClass nc = (J.NewClass) super.visitNewClass(newClass, ctx);
+                if (METHODS.find(newClass.getConstructorType()) == null) {
+                    return nc;
+                }
                 if (NEW_INTERVAL_LONGS.matches(newClass) || NEW_INTERVAL_LONGS_ZONE.matches(newClass)) {
                     maybeAddImport("java.time.Instant");
                     maybeAddImport("org.threeten.extra.Interval");
-                    return JavaTemplate.builder("Interval.of(Instant.ofEpochMilli(#{any(long)}), Instant.ofEpochMilli(#{any(long)}))")
-                            .javaParser(JavaParser.fromJavaVersion().classpathFromResources(new InMemoryExecutionContext(), "threeten-extra-1"))
-                            .imports("java.time.Instant", "org.threeten.extra.Interval").build()
+                    return JodaTemplates.getWithThreeTenExtra("Interval.of(Instant.ofEpochMilli(#{any(long)}), Instant.ofEpochMilli(#{any(long)}))", "java.time.Instant", "org.threeten.extra.Interval")
                             .apply(getCursor(), nc.getCoordinates().replace(),
                                     nc.getArguments().get(0), nc.getArguments().get(1));
                 }
                 if (NEW_INTERVAL_RI_RI.matches(newClass)) {
                     maybeAddImport("org.threeten.extra.Interval");
-                    return JavaTemplate.builder("Interval.of(#{any(java.time.ZonedDateTime)}.toInstant(), #{any(java.time.ZonedDateTime)}.toInstant())")
-                            .javaParser(JavaParser.fromJavaVersion().classpathFromResources(new InMemoryExecutionContext(), "threeten-extra-1"))
-                            .imports("org.threeten.extra.Interval").build()
+                    return JodaTemplates.getWithThreeTenExtra("Interval.of(#{any(java.time.ZonedDateTime)}.toInstant(), #{any(java.time.ZonedDateTime)}.toInstant())", "org.threeten.extra.Interval")
                             .apply(getCursor(), nc.getCoordinates().replace(),
                                     nc.getArguments().get(0), nc.getArguments().get(1));
                 }
                 if (NEW_INTERVAL_RI_RD.matches(newClass)) {
                     maybeAddImport("org.threeten.extra.Interval");
-                    return JavaTemplate.builder("Interval.of(#{any(java.time.ZonedDateTime)}.toInstant(), #{any(java.time.Duration)})")
-                            .javaParser(JavaParser.fromJavaVersion().classpathFromResources(new InMemoryExecutionContext(), "threeten-extra-1"))
-                            .imports("org.threeten.extra.Interval").build()
+                    return JodaTemplates.getWithThreeTenExtra("Interval.of(#{any(java.time.ZonedDateTime)}.toInstant(), #{any(java.time.Duration)})", "org.threeten.extra.Interval")
                             .apply(getCursor(), nc.getCoordinates().replace(),
                                     nc.getArguments().get(0), nc.getArguments().get(1));
                 }
@@ -87,45 +112,39 @@ public class JodaIntervalToJavaTime extends Recipe {
             @Override
             public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
                 J.MethodInvocation m = (J.MethodInvocation) super.visitMethodInvocation(method, ctx);
+                if (METHODS.find(method.getMethodType()) == null) {
+                    return m;
+                }
                 if (GET_START.matches(method)) {
                     maybeAddImport("java.time.ZoneId");
-                    return JavaTemplate.builder("#{any(org.threeten.extra.Interval)}.getStart().atZone(ZoneId.systemDefault())")
-                            .javaParser(JavaParser.fromJavaVersion().classpathFromResources(new InMemoryExecutionContext(), "threeten-extra-1"))
-                            .imports("java.time.ZoneId").build()
-                            .apply(getCursor(), m.getCoordinates().replace(), m.getSelect());
+                    return SystemDefaultZone.cache(cacheZone, JodaTemplates.getWithThreeTenExtra("#{any(org.threeten.extra.Interval)}.getStart().atZone(ZoneId.systemDefault())", "java.time.ZoneId")
+                            .apply(getCursor(), m.getCoordinates().replace(), m.getSelect()), getCursor());
                 }
                 if (GET_END.matches(method)) {
                     maybeAddImport("java.time.ZoneId");
-                    return JavaTemplate.builder("#{any(org.threeten.extra.Interval)}.getEnd().atZone(ZoneId.systemDefault())")
-                            .javaParser(JavaParser.fromJavaVersion().classpathFromResources(new InMemoryExecutionContext(), "threeten-extra-1"))
-                            .imports("java.time.ZoneId").build()
-                            .apply(getCursor(), m.getCoordinates().replace(), m.getSelect());
+                    return SystemDefaultZone.cache(cacheZone, JodaTemplates.getWithThreeTenExtra("#{any(org.threeten.extra.Interval)}.getEnd().atZone(ZoneId.systemDefault())", "java.time.ZoneId")
+                            .apply(getCursor(), m.getCoordinates().replace(), m.getSelect()), getCursor());
                 }
                 if (TO_DURATION_MILLIS.matches(method)) {
-                    return JavaTemplate.builder("#{any(org.threeten.extra.Interval)}.toDuration().toMillis()")
-                            .javaParser(JavaParser.fromJavaVersion().classpathFromResources(new InMemoryExecutionContext(), "threeten-extra-1")).build()
+                    return JodaTemplates.getWithThreeTenExtra("#{any(org.threeten.extra.Interval)}.toDuration().toMillis()")
                             .apply(getCursor(), m.getCoordinates().replace(), m.getSelect());
                 }
                 if (CONTAINS.matches(method)) {
                     maybeAddImport("java.time.Instant");
-                    return JavaTemplate.builder("#{any(org.threeten.extra.Interval)}.contains(Instant.ofEpochMilli(#{any(long)}))")
-                            .javaParser(JavaParser.fromJavaVersion().classpathFromResources(new InMemoryExecutionContext(), "threeten-extra-1"))
-                            .imports("java.time.Instant").build()
+                    return JodaTemplates.getWithThreeTenExtra("#{any(org.threeten.extra.Interval)}.contains(Instant.ofEpochMilli(#{any(long)}))", "java.time.Instant")
                             .apply(getCursor(), m.getCoordinates().replace(),
                                     m.getSelect(), m.getArguments().get(0));
                 }
                 if (GET_START_MILLIS.matches(method)) {
-                    return JavaTemplate.builder("#{any(org.threeten.extra.Interval)}.getStart().toEpochMilli()")
-                            .javaParser(JavaParser.fromJavaVersion().classpathFromResources(new InMemoryExecutionContext(), "threeten-extra-1")).build()
+                    return JodaTemplates.getWithThreeTenExtra("#{any(org.threeten.extra.Interval)}.getStart().toEpochMilli()")
                             .apply(getCursor(), m.getCoordinates().replace(), m.getSelect());
                 }
                 if (GET_END_MILLIS.matches(method)) {
-                    return JavaTemplate.builder("#{any(org.threeten.extra.Interval)}.getEnd().toEpochMilli()")
-                            .javaParser(JavaParser.fromJavaVersion().classpathFromResources(new InMemoryExecutionContext(), "threeten-extra-1")).build()
+                    return JodaTemplates.getWithThreeTenExtra("#{any(org.threeten.extra.Interval)}.getEnd().toEpochMilli()")
                             .apply(getCursor(), m.getCoordinates().replace(), m.getSelect());
                 }
                 return m;
             }
-        });
+        }));
     }
 }
@@ -15,16 +15,19 @@
  */
 package org.openrewrite.java.joda.time;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
+import org.jspecify.annotations.Nullable;
 import org.openrewrite.ExecutionContext;
+import org.openrewrite.Option;
 import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
-import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.JavaVisitor;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.joda.time.table.JodaRecipePerformance;
+import org.openrewrite.java.joda.time.table.JodaSkippedSourceFiles;
 import org.openrewrite.java.tree.J;
 
 @Value
@@ -34,55 +37,80 @@ public class JodaLocalDateToJavaTime extends Recipe {
 
     String description = "Migrates Joda-Time `LocalDate` constructors and instance methods to the equivalent `java.time.LocalDate` calls.";
 
+    @Option(displayName = SystemDefaultZone.OPTION_DISPLAY_NAME,
+            description = SystemDefaultZone.OPTION_DESCRIPTION,
+            required = false)
+    @Nullable
+    Boolean cacheSystemDefaultZone;
+
+    transient JodaRecipePerformance performance = new JodaRecipePerformance(this);
+    transient JodaSkippedSourceFiles skipped = new JodaSkippedSourceFiles(this);
+
+    public JodaLocalDateToJavaTime() {
+        this(null);
+    }
+
+    @JsonCreator
+    public JodaLocalDateToJavaTime(@Nullable Boolean cacheSystemDefaultZone) {
+        this.cacheSystemDefaultZone = cacheSystemDefaultZone;
+    }
+
+    static final JodaMethodIndex METHODS = new JodaMethodIndex();
+
     // Constructor matchers
-    private static final MethodMatcher NEW_LD = new MethodMatcher("org.joda.time.LocalDate <constructor>()");
-    private static final MethodMatcher NEW_LD_ZONE = new MethodMatcher("org.joda.time.LocalDate <constructor>(org.joda.time.DateTimeZone)");
-    private static final MethodMatcher NEW_LD_YMD = new MethodMatcher("org.joda.time.LocalDate <constructor>(int, int, int)");
-    private static final MethodMatcher NEW_LD_MILLIS = new MethodMatcher("org.joda.time.LocalDate <constructor>(long)");
-    private static final MethodMatcher NEW_LD_MILLIS_ZONE = new MethodMatcher("org.joda.time.LocalDate <constructor>(long, org.joda.time.DateTimeZone)");
+    private static final MethodMatcher NEW_LD = METHODS.matcher("org.joda.time.LocalDate <constructor>()");
+    private static final MethodMatcher NEW_LD_ZONE = METHODS.matcher("org.joda.time.LocalDate <constructor>(org.joda.time.DateTimeZone)");
+    private static final MethodMatcher NEW_LD_YMD = METHODS.matcher("org.joda.time.LocalDate <constructor>(int, int, int)");
+    private static final MethodMatcher NEW_LD_MILLIS = METHODS.matcher("org.joda.time.LocalDate <constructor>(long)");
+    private static final MethodMatcher NEW_LD_MILLIS_ZONE = METHODS.matcher("org.joda.time.LocalDate <constructor>(long, org.joda.time.DateTimeZone)");
 
     // Instance method matchers
-    private static final MethodMatcher GET_DAY_OF_WEEK = new MethodMatcher("org.joda.time.LocalDate getDayOfWeek()");
-    private static final MethodMatcher TO_DT_AT_START = new MethodMatcher("org.joda.time.LocalDate toDateTimeAtStartOfDay()");
-    private static final MethodMatcher TO_DT_AT_START_ZONE = new MethodMatcher("org.joda.time.LocalDate toDateTimeAtStartOfDay(org.joda.time.DateTimeZone)");
-    private static final MethodMatcher TO_LOCAL_DATE_TIME = new MethodMatcher("org.joda.time.LocalDate toLocalDateTime(org.joda.time.LocalTime)");
+    private static final MethodMatcher GET_DAY_OF_WEEK = METHODS.matcher("org.joda.time.LocalDate getDayOfWeek()");
+    private static final MethodMatcher TO_DT_AT_START = METHODS.matcher("org.joda.time.LocalDate toDateTimeAtStartOfDay()");
+    private static final MethodMatcher TO_DT_AT_START_ZONE = METHODS.matcher("org.joda.time.LocalDate toDateTimeAtStartOfDay(org.joda.time.DateTimeZone)");
+    private static final MethodMatcher TO_LOCAL_DATE_TIME = METHODS.matcher("org.joda.time.LocalDate toLocalDateTime(org.joda.time.LocalTime)");
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesType<>("org.joda.time.LocalDate", true), new JavaVisitor<ExecutionContext>() {
+        boolean cacheZone = Boolean.TRUE.equals(cacheSystemDefaultZone);
+        return JodaRecipeMetrics.measure(this, performance, skipped, Preconditions.check(new UsesJodaType<>(UsesJodaType.LOCAL_DATE), new JavaVisitor<ExecutionContext>() {
+            @Override
+            public J visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                J.ClassDeclaration cd = (J.ClassDeclaration) super.visitClassDeclaration(classDecl, ctx);
+                return HoistedConstants.declare(cd, getCursor());
+            }
+
             @Override
             public J visitNewClass(J.NewClass newClass, ExecutionContext ctx) {
                 J.NewClass nc = (J.NewClass) super.visitNewClass(newClass, ctx);
+                if (METHODS.find(newClass.getConstructorType()) == null) {
+                    return nc;
+                }
                 if (NEW_LD.matches(newClass)) {
                     maybeAddImport("java.time.LocalDate");
-                    return JavaTemplate.builder("LocalDate.now()")
-                            .imports("java.time.LocalDate").build()
+                    return JodaTemplates.get("LocalDate.now()", "java.time.LocalDate")
                             .apply(getCursor(), nc.getCoordinates().replace());
                 }
                 if (NEW_LD_ZONE.matches(newClass)) {
                     maybeAddImport("java.time.LocalDate");
-                    return JavaTemplate.builder("LocalDate.now(#{any(java.time.ZoneId)})")
-                            .imports("java.time.LocalDate").build()
+                    return JodaTemplates.get("LocalDate.now(#{any(java.time.ZoneId)})", "java.time.LocalDate")
                             .apply(getCursor(), nc.getCoordinates().replace(), nc.getArguments().get(0));
                 }
                 if (NEW_LD_YMD.matches(newClass)) {
                     maybeAddImport("java.time.LocalDate");
-                    return JavaTemplate.builder("LocalDate.of(#{any(int)}, #{any(int)}, #{any(int)})")
-                            .imports("java.time.LocalDate").build()
+                    return JodaTemplates.get("LocalDate.of(#{any(int)}, #{any(int)}, #{any(int)})", "java.time.LocalDate")
                             .apply(getCursor(), nc.getCoordinates().replace(),
                                     nc.getArguments().get(0), nc.getArguments().get(1), nc.getArguments().get(2));
                 }
                 if (NEW_LD_MILLIS.matches(newClass)) {
                     maybeAddImport("java.time.Instant");
                     maybeAddImport("java.time.ZoneId");
-                    return JavaTemplate.builder("Instant.ofEpochMilli(#{any(long)}).atZone(ZoneId.systemDefault()).toLocalDate()")
-                            .imports("java.time.Instant", "java.time.ZoneId").build()
-                            .apply(getCursor(), nc.getCoordinates().replace(), nc.getArguments().get(0));
+                    return SystemDefaultZone.cache(cacheZone, JodaTemplates.get("Instant.ofEpochMilli(#{any(long)}).atZone(ZoneId.systemDefault()).toLocalDate()", "java.time.Instant", "java.time.ZoneId")
+                            .apply(getCursor(), nc.getCoordinates().replace(), nc.getArguments().get(0)), getCursor());
                 }
                 if (NEW_LD_MILLIS_ZONE.matches(newClass)) {
                     maybeAddImport("java.time.Instant");
-                    return JavaTemplate.builder("Instant.ofEpochMilli(#{any(long)}).atZone(#{any(java.time.ZoneId)}).toLocalDate()")
-                            .imports("java.time.Instant").build()
+                    return JodaTemplates.get("Instant.ofEpochMilli(#{any(long)}).atZone(#{any(java.time.ZoneId)}).toLocalDate()", "java.time.Instant")
                             .apply(getCursor(), nc.getCoordinates().replace(),
                                     nc.getArguments().get(0), nc.getArguments().get(1));
                 }
@@ -92,23 +120,25 @@ public class JodaLocalDateToJavaTime extends Recipe {
             @Override
             public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
                 J.MethodInvocation m = (J.MethodInvocation) super.visitMethodInvocation(method, ctx);
+                if (METHODS.find(method.getMethodType()) == null) {
+                    return m;
+                }
                 if (GET_DAY_OF_WEEK.matches(method)) {
-                    return JavaTemplate.apply("#{any(java.time.LocalDate)}.getDayOfWeek().getValue()", getCursor(), m.getCoordinates().replace(), m.getSelect());
+                    return JodaTemplates.get("#{any(java.time.LocalDate)}.getDayOfWeek().getValue()").apply(getCursor(), m.getCoordinates().replace(), m.getSelect());
                 }
                 if (TO_DT_AT_START.matches(method)) {
                     maybeAddImport("java.time.ZoneId");
-                    return JavaTemplate.builder("#{any(java.time.LocalDate)}.atStartOfDay(ZoneId.systemDefault())")
-                            .imports("java.time.ZoneId").build()
-                            .apply(getCursor(), m.getCoordinates().replace(), m.getSelect());
+                    return SystemDefaultZone.cache(cacheZone, JodaTemplates.get("#{any(java.time.LocalDate)}.atStartOfDay(ZoneId.systemDefault())", "java.time.ZoneId")
+                            .apply(getCursor(), m.getCoordinates().replace(), m.getSelect()), getCursor());
                 }
                 if (TO_DT_AT_START_ZONE.matches(method)) {
-                    return JavaTemplate.apply("#{any(java.time.LocalDate)}.atStartOfDay(#{any(java.time.ZoneId)})", getCursor(), m.getCoordinates().replace(), m.getSelect(), m.getArguments().get(0));
+                    return JodaTemplates.get("#{any(java.time.LocalDate)}.atStartOfDay(#{any(java.time.ZoneId)})").apply(getCursor(), m.getCoordinates().replace(), m.getSelect(), m.getArguments().get(0));
                 }
                 if (TO_LOCAL_DATE_TIME.matches(method)) {
-                    return JavaTemplate.apply("#{any(java.time.LocalDate)}.atTime(#{any(java.time.LocalTime)})", getCursor(), m.getCoordinates().replace(), m.getSelect(), m.getArguments().get(0));
+                    return JodaTemplates.get("#{any(java.time.LocalDate)}.atTime(#{any(java.time.LocalTime)})").apply(getCursor(), m.getCoordinates().replace(), m.getSelect(), m.getArguments().get(0));
                 }
                 return m;
             }
-        });
+        }));
     }
 }
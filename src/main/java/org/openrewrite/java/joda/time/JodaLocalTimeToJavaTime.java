@@ -15,18 +15,26 @@
  */
 package org.openrewrite.java.joda.time;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
 import org.openrewrite.ExecutionContext;
+import org.openrewrite.Option;
 import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
-import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.JavaVisitor;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.joda.time.table.JodaRecipePerformance;
+import org.openrewrite.java.joda.time.table.JodaSkippedSourceFiles;
+import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 
+import java.util.List;
+import java.util.StringJoiner;
+
 @Value
 @EqualsAndHashCode(callSuper = false)
 public class JodaLocalTimeToJavaTime extends Recipe {
@@ -34,61 +42,98 @@ public class JodaLocalTimeToJavaTime extends Recipe {
 
     String description = "Migrates Joda-Time `LocalTime` constructors and instance methods to the equivalent `java.time.LocalTime` calls.";
 
+    @Option(displayName = SystemDefaultZone.OPTION_DISPLAY_NAME,
+            description = SystemDefaultZone.OPTION_DESCRIPTION,
+            required = false)
+    @Nullable
+    Boolean cacheSystemDefaultZone;
+
+    @Option(displayName = "Hoist constant times",
+            description = "When `true`, `LocalTime` constructors with literal arguments inside methods are replaced by " +
+                          "`private static final java.time.LocalTime` fields, so the time is only built once per class.",
+            required = false)
+    @Nullable
+    Boolean hoistConstantTimes;
+
+    transient JodaRecipePerformance performance = new JodaRecipePerformance(this);
+    transient JodaSkippedSourceFiles skipped = new JodaSkippedSourceFiles(this);
+
+    public JodaLocalTimeToJavaTime() {
+        this(null, null);
+    }
+
+    @JsonCreator
+    public JodaLocalTimeToJavaTime(@Nullable Boolean cacheSystemDefaultZone, @Nullable Boolean hoistConstantTimes) {
+        this.cacheSystemDefaultZone = cacheSystemDefaultZone;
+        this.hoistConstantTimes = hoistConstantTimes;
+    }
+
+    static final JodaMethodIndex METHODS = new JodaMethodIndex();
+
     // Constructor matchers
-    private static final MethodMatcher NEW_LT = new MethodMatcher("org.joda.time.LocalTime <constructor>()");
-    private static final MethodMatcher NEW_LT_ZONE = new MethodMatcher("org.joda.time.LocalTime <constructor>(org.joda.time.DateTimeZone)");
-    private static final MethodMatcher NEW_LT_HM = new MethodMatcher("org.joda.time.LocalTime <constructor>(int, int)");
-    private static final MethodMatcher NEW_LT_HMS = new MethodMatcher("org.joda.time.LocalTime <constructor>(int, int, int)");
-    private static final MethodMatcher NEW_LT_HMSM = new MethodMatcher("org.joda.time.LocalTime <constructor>(int, int, int, int)");
+    private static final MethodMatcher NEW_LT = METHODS.matcher("org.joda.time.LocalTime <constructor>()");
+    private static final MethodMatcher NEW_LT_ZONE = METHODS.matcher("org.joda.time.LocalTime <constructor>(org.joda.time.DateTimeZone)");
+    private static final MethodMatcher NEW_LT_HM = METHODS.matcher("org.joda.time.LocalTime <constructor>(int, int)");
+    private static final MethodMatcher NEW_LT_HMS = METHODS.matcher("org.joda.time.LocalTime <constructor>(int, int, int)");
+    private static final MethodMatcher NEW_LT_HMSM = METHODS.matcher("org.joda.time.LocalTime <constructor>(int, int, int, int)");
 
     // Instance method matchers
-    private static final MethodMatcher PLUS_MILLIS = new MethodMatcher("org.joda.time.LocalTime plusMillis(int)");
-    private static final MethodMatcher MINUS_MILLIS = new MethodMatcher("org.joda.time.LocalTime minusMillis(int)");
-    private static final MethodMatcher WITH_MILLIS_OF_SECOND = new MethodMatcher("org.joda.time.LocalTime withMillisOfSecond(int)");
-    private static final MethodMatcher GET_MILLIS_OF_SECOND = new MethodMatcher("org.joda.time.LocalTime getMillisOfSecond()");
-    private static final MethodMatcher GET_MILLIS_OF_DAY = new MethodMatcher("org.joda.time.LocalTime getMillisOfDay()");
-    private static final MethodMatcher TO_DT_TODAY = new MethodMatcher("org.joda.time.LocalTime toDateTimeToday()");
-    private static final MethodMatcher TO_DT_TODAY_ZONE = new MethodMatcher("org.joda.time.LocalTime toDateTimeToday(org.joda.time.DateTimeZone)");
+    private static final MethodMatcher PLUS_MILLIS = METHODS.matcher("org.joda.time.LocalTime plusMillis(int)");
+    private static final MethodMatcher MINUS_MILLIS = METHODS.matcher("org.joda.time.LocalTime minusMillis(int)");
+    private static final MethodMatcher WITH_MILLIS_OF_SECOND = METHODS.matcher("org.joda.time.LocalTime withMillisOfSecond(int)");
+    private static final MethodMatcher GET_MILLIS_OF_SECOND = METHODS.matcher("org.joda.time.LocalTime getMillisOfSecond()");
+    private static final MethodMatcher GET_MILLIS_OF_DAY = METHODS.matcher("org.joda.time.LocalTime getMillisOfDay()");
+    private static final MethodMatcher TO_DT_TODAY = METHODS.matcher("org.joda.time.LocalTime toDateTimeToday()");
+    private static final MethodMatcher TO_DT_TODAY_ZONE = METHODS.matcher("org.joda.time.LocalTime toDateTimeToday(org.joda.time.DateTimeZone)");
+
+    // The largest hour, minute, second and millisecond of the constructor arguments
+    private static final int[] MAX_FIELD_VALUES = {23, 59, 59, 999};
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesType<>("org.joda.time.LocalTime", true), new JavaVisitor<ExecutionContext>() {
+        boolean cacheZone = Boolean.TRUE.equals(cacheSystemDefaultZone);
+        boolean hoist = Boolean.TRUE.equals(hoistConstantTimes);
+        return JodaRecipeMetrics.measure(this, performance, skipped, Preconditions.check(new UsesJodaType<>(UsesJodaType.LOCAL_TIME), new JavaVisitor<ExecutionContext>() {
+            @Override
+            public J visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                J.ClassDeclaration cd = (J.ClassDeclaration) super.visitClassDeclaration(classDecl, ctx);
+                return HoistedConstants.declare(cd, getCursor());
+            }
+
             @Override
             public J visitNewClass(J.NewClass newClass, ExecutionContext ctx) {
                 J.NewClass nc = (J.NewClass) super.visitNewClass(newClass, ctx);
+                if (METHODS.find(newClass.getConstructorType()) == null) {
+                    return nc;
+                }
                 if (NEW_LT.matches(newClass)) {
                     maybeAddImport("java.time.LocalTime");
-                    return JavaTemplate.builder("LocalTime.now()")
-                            .imports("java.time.LocalTime").build()
+                    return JodaTemplates.get("LocalTime.now()", "java.time.LocalTime")
                             .apply(getCursor(), nc.getCoordinates().replace());
                 }
                 if (NEW_LT_ZONE.matches(newClass)) {
                     maybeAddImport("java.time.LocalTime");
-                    return JavaTemplate.builder("LocalTime.now(#{any(java.time.ZoneId)})")
-                            .imports("java.time.LocalTime").build()
+                    return JodaTemplates.get("LocalTime.now(#{any(java.time.ZoneId)})", "java.time.LocalTime")
                             .apply(getCursor(), nc.getCoordinates().replace(), nc.getArguments().get(0));
                 }
                 if (NEW_LT_HM.matches(newClass)) {
                     maybeAddImport("java.time.LocalTime");
-                    return JavaTemplate.builder("LocalTime.of(#{any(int)}, #{any(int)})")
-                            .imports("java.time.LocalTime").build()
+                    return constant(nc, JodaTemplates.get("LocalTime.of(#{any(int)}, #{any(int)})", "java.time.LocalTime")
                             .apply(getCursor(), nc.getCoordinates().replace(),
-                                    nc.getArguments().get(0), nc.getArguments().get(1));
+                                    nc.getArguments().get(0), nc.getArguments().get(1)));
                 }
                 if (NEW_LT_HMS.matches(newClass)) {
                     maybeAddImport("java.time.LocalTime");
-                    return JavaTemplate.builder("LocalTime.of(#{any(int)}, #{any(int)}, #{any(int)})")
-                            .imports("java.time.LocalTime").build()
+                    return constant(nc, JodaTemplates.get("LocalTime.of(#{any(int)}, #{any(int)}, #{any(int)})", "java.time.LocalTime")
                             .apply(getCursor(), nc.getCoordinates().replace(),
-                                    nc.getArguments().get(0), nc.getArguments().get(1), nc.getArguments().get(2));
+                                    nc.getArguments().get(0), nc.getArguments().get(1), nc.getArguments().get(2)));
                 }
                 if (NEW_LT_HMSM.matches(newClass)) {
                     maybeAddImport("java.time.LocalTime");
-                    return JavaTemplate.builder("LocalTime.of(#{any(int)}, #{any(int)}, #{any(int)}, #{any(int)} * 1_000_000)")
-                            .imports("java.time.LocalTime").build()
+                    return constant(nc, MillisToNanos.fold(JodaTemplates.get("LocalTime.of(#{any(int)}, #{any(int)}, #{any(int)}, #{any(int)} * 1_000_000)", "java.time.LocalTime")
                             .apply(getCursor(), nc.getCoordinates().replace(),
                                     nc.getArguments().get(0), nc.getArguments().get(1),
-                                    nc.getArguments().get(2), nc.getArguments().get(3));
+                                    nc.getArguments().get(2), nc.getArguments().get(3)), getCursor()));
                 }
                 return nc;
             }
@@ -96,43 +141,79 @@ public class JodaLocalTimeToJavaTime extends Recipe {
             @Override
             public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
                 J.MethodInvocation m = (J.MethodInvocation) super.visitMethodInvocation(method, ctx);
+                if (METHODS.find(method.getMethodType()) == null) {
+                    return m;
+                }
                 if (PLUS_MILLIS.matches(method)) {
-                    return JavaTemplate.apply("#{any(java.time.LocalTime)}.plusNanos(#{any(int)} * 1_000_000L)", getCursor(), m.getCoordinates().replace(), m.getSelect(), m.getArguments().get(0));
+                    return MillisToNanos.fold(JodaTemplates.get("#{any(java.time.LocalTime)}.plusNanos(#{any(int)} * 1_000_000L)")
+                            .apply(getCursor(), m.getCoordinates().replace(), m.getSelect(), m.getArguments().get(0)), getCursor());
                 }
                 if (MINUS_MILLIS.matches(method)) {
-                    return JavaTemplate.apply("#{any(java.time.LocalTime)}.minusNanos(#{any(int)} * 1_000_000L)", getCursor(), m.getCoordinates().replace(), m.getSelect(), m.getArguments().get(0));
+                    return MillisToNanos.fold(JodaTemplates.get("#{any(java.time.LocalTime)}.minusNanos(#{any(int)} * 1_000_000L)")
+                            .apply(getCursor(), m.getCoordinates().replace(), m.getSelect(), m.getArguments().get(0)), getCursor());
                 }
                 if (WITH_MILLIS_OF_SECOND.matches(method)) {
-                    return JavaTemplate.apply("#{any(java.time.LocalTime)}.withNano(#{any(int)} * 1_000_000)", getCursor(), m.getCoordinates().replace(), m.getSelect(), m.getArguments().get(0));
+                    return MillisToNanos.fold(JodaTemplates.get("#{any(java.time.LocalTime)}.withNano(#{any(int)} * 1_000_000)")
+                            .apply(getCursor(), m.getCoordinates().replace(), m.getSelect(), m.getArguments().get(0)), getCursor());
                 }
                 if (GET_MILLIS_OF_SECOND.matches(method)) {
                     maybeAddImport("java.time.temporal.ChronoField");
-                    return JavaTemplate.builder("#{any(java.time.LocalTime)}.get(ChronoField.MILLI_OF_SECOND)")
-                            .imports("java.time.temporal.ChronoField").build()
+                    return JodaTemplates.get("#{any(java.time.LocalTime)}.get(ChronoField.MILLI_OF_SECOND)", "java.time.temporal.ChronoField")
                             .apply(getCursor(), m.getCoordinates().replace(), m.getSelect());
                 }
                 if (GET_MILLIS_OF_DAY.matches(method)) {
                     maybeAddImport("java.time.temporal.ChronoField");
-                    return JavaTemplate.builder("#{any(java.time.LocalTime)}.get(ChronoField.MILLI_OF_DAY)")
-                            .imports("java.time.temporal.ChronoField").build()
+                    return JodaTemplates.get("#{any(java.time.LocalTime)}.get(ChronoField.MILLI_OF_DAY)", "java.time.temporal.ChronoField")
                             .apply(getCursor(), m.getCoordinates().replace(), m.getSelect());
                 }
                 if (TO_DT_TODAY.matches(method)) {
                     maybeAddImport("java.time.LocalDate");
                     maybeAddImport("java.time.ZoneId");
-                    return JavaTemplate.builder("#{any(java.time.LocalTime)}.atDate(LocalDate.now()).atZone(ZoneId.systemDefault())")
-                            .imports("java.time.LocalDate", "java.time.ZoneId").build()
-                            .apply(getCursor(), m.getCoordinates().replace(), m.getSelect());
+                    return SystemDefaultZone.cache(cacheZone, JodaTemplates.get("#{any(java.time.LocalTime)}.atDate(LocalDate.now()).atZone(ZoneId.systemDefault())", "java.time.LocalDate", "java.time.ZoneId")
+                            .apply(getCursor(), m.getCoordinates().replace(), m.getSelect()), getCursor());
                 }
                 if (TO_DT_TODAY_ZONE.matches(method)) {
                     maybeAddImport("java.time.LocalDate");
-                    return JavaTemplate.builder("#{any(java.time.LocalTime)}.atDate(LocalDate.now(#{any(java.time.ZoneId)})).atZone(#{any(java.time.ZoneId)})")
-                            .imports("java.time.LocalDate").build()
+                    return JodaTemplates.get("#{any(java.time.LocalTime)}.atDate(LocalDate.now(#{any(java.time.ZoneId)})).atZone(#{any(java.time.ZoneId)})", "java.time.LocalDate")
                             .apply(getCursor(), m.getCoordinates().replace(),
                                     m.getSelect(), m.getArguments().get(0), m.getArguments().get(0));
                 }
                 return m;
             }
-        });
+
+            /**
+             * @return A reference to a constant of the given time if hoisting is enabled and all arguments of the
+             * constructor are literals within the range of their field, or else the time. An invalid time stays
+             * where it is, so that it fails where the Joda-Time constructor did, rather than in the initialization
+             * of the class.
+             */
+            private J constant(J.NewClass newClass, J localTime) {
+                Cursor target = hoist && localTime instanceof J.MethodInvocation ? HoistedConstants.target(getCursor()) : null;
+                if (target == null) {
+                    return localTime;
+                }
+                StringJoiner name = new StringJoiner("_", "TIME_", "");
+                List<Expression> constructorArguments = newClass.getArguments();
+                for (int i = 0; i < constructorArguments.size(); i++) {
+                    Expression argument = constructorArguments.get(i);
+                    if (!(argument instanceof J.Literal) || !(((J.Literal) argument).getValue() instanceof Integer)) {
+                        return localTime;
+                    }
+                    int value = (Integer) ((J.Literal) argument).getValue();
+                    if (value < 0 || value > MAX_FIELD_VALUES[i]) {
+                        return localTime;
+                    }
+                    name.add(String.valueOf(value));
+                }
+                List<Expression> arguments = ((J.MethodInvocation) localTime).getArguments();
+                StringJoiner initializer = new StringJoiner(", ", "LocalTime.of(", ")");
+                for (int i = 0; i < arguments.size(); i++) {
+                    initializer.add("#{any(int)}");
+                }
+                return HoistedConstants.reference(target, "LocalTime." + name, name.toString(), "java.time.LocalTime",
+                                initializer.toString(), arguments.toArray())
+                        .withPrefix(localTime.getPrefix());
+            }
+        }));
     }
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.joda.time;
+
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.tree.JavaType;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Indexes {@link MethodMatcher}s by declaring type, method name and arity, so that a method type can be
+ * dispatched to the single matcher that may apply to it with a couple of hash lookups, instead of being
+ * tested against every matcher of a recipe in turn.
+ * <p>
+ * Only exact declaring type patterns are supported, i.e. matchers that do not match overrides.
+ */
+final class JodaMethodIndex {
+    private static final Predicate<MethodMatcher> ANY = matcher -> true;
+
+    private final Map<String, Map<String, List<Entry>>> byTypeAndName = new HashMap<>();
+
+    /**
+     * Creates a matcher for the given method pattern and registers it in this index.
+     */
+    MethodMatcher matcher(String methodPattern) {
+        int space = methodPattern.indexOf(' ');
+        int open = methodPattern.indexOf('(');
+        String declaringType = methodPattern.substring(0, space);
+        String methodName = methodPattern.substring(space + 1, open);
+        String arguments = methodPattern.substring(open + 1, methodPattern.lastIndexOf(')')).trim();
+        int arity = arguments.isEmpty() ? 0 : arguments.split(",").length;
+
+        MethodMatcher matcher = new MethodMatcher(methodPattern);
+        byTypeAndName.computeIfAbsent(declaringType, k -> new HashMap<>())
+                .computeIfAbsent(methodName, k -> new ArrayList<>(2))
+                .add(new Entry(arity, matcher));
+        return matcher;
+    }
+
+    /**
+     * @return The registered matcher that matches the given method type, or {@code null} if there is none.
+     */
+    @Nullable
+    MethodMatcher find(JavaType.@Nullable Method methodType) {
+        return find(methodType, ANY);
+    }
+
+    /**
+     * @param accept Whether a matching matcher applies to the caller, as when the index is shared by several recipes.
+     * @return The registered and accepted matcher that matches the given method type, or {@code null} if there is none.
+     */
+    @Nullable
+    MethodMatcher find(JavaType.@Nullable Method methodType, Predicate<MethodMatcher> accept) {
+        if (methodType == null) {
+            return null;
+        }
+        Map<String, List<Entry>> byName = byTypeAndName.get(methodType.getDeclaringType().getFullyQualifiedName());
+        if (byName == null) {
+            return null;
+        }
+        List<Entry> candidates = byName.get(methodType.getName());
+        if (candidates == null) {
+            return null;
+        }
+        int arity = methodType.getParameterTypes().size();
+        for (Entry candidate : candidates) {
+            if (candidate.getArity() == arity && candidate.getMatcher().matches(methodType)) {
+                return accept.test(candidate.getMatcher()) ? candidate.getMatcher() : null;
+            }
+        }
+        return null;
+    }
+
+    @Value
+    private static class Entry {
+        int arity;
+        MethodMatcher matcher;
+    }
+}
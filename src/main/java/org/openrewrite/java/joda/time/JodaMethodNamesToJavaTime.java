@@ -0,0 +1,211 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.joda.time;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.joda.time.table.JodaRecipePerformance;
+import org.openrewrite.java.joda.time.table.JodaSkippedSourceFiles;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class JodaMethodNamesToJavaTime extends Recipe {
+    String displayName = "Rename Joda-Time methods to their Java time equivalents";
+
+    String description = "Renames Joda-Time accessors, setters and factories whose `java.time` counterpart only differs by name, " +
+                         "such as `getHourOfDay()` to `getHour()`. The renames are collapsed into one pass over each source file, " +
+                         "which the other steps of `NoJodaTime` still visit separately.";
+
+    transient JodaRecipePerformance performance = new JodaRecipePerformance(this);
+    transient JodaSkippedSourceFiles skipped = new JodaSkippedSourceFiles(this);
+
+    private static final Map<String, List<Rename>> RENAMES_BY_NAME = new HashMap<>();
+
+    static {
+        // AbstractDateTime accessors
+        rename("org.joda.time.base.AbstractDateTime getHourOfDay()", "getHour", true);
+        rename("org.joda.time.base.AbstractDateTime getMinuteOfHour()", "getMinute", true);
+        rename("org.joda.time.base.AbstractDateTime getSecondOfMinute()", "getSecond", true);
+        rename("org.joda.time.base.AbstractDateTime getMonthOfYear()", "getMonthValue", true);
+        // DateTime zone methods
+        rename("org.joda.time.DateTime withZone(org.joda.time.DateTimeZone)", "withZoneSameInstant", false);
+        rename("org.joda.time.DateTime withZoneRetainFields(org.joda.time.DateTimeZone)", "withZoneSameLocal", false);
+        // DateTime setters
+        rename("org.joda.time.DateTime withMonthOfYear(int)", "withMonth", false);
+        rename("org.joda.time.DateTime withHourOfDay(int)", "withHour", false);
+        rename("org.joda.time.DateTime withMinuteOfHour(int)", "withMinute", false);
+        rename("org.joda.time.DateTime withSecondOfMinute(int)", "withSecond", false);
+        // Duration static factories
+        rename("org.joda.time.Duration standardDays(long)", "ofDays", false);
+        rename("org.joda.time.Duration standardHours(long)", "ofHours", false);
+        rename("org.joda.time.Duration standardMinutes(long)", "ofMinutes", false);
+        rename("org.joda.time.Duration standardSeconds(long)", "ofSeconds", false);
+        rename("org.joda.time.Duration millis(long)", "ofMillis", false);
+        // Duration instance getters
+        rename("org.joda.time.Duration getStandardDays()", "toDays", false);
+        rename("org.joda.time.Duration getStandardHours()", "toHours", false);
+        rename("org.joda.time.Duration getStandardMinutes()", "toMinutes", false);
+        rename("org.joda.time.Duration getStandardSeconds()", "getSeconds", false);
+        // Duration conversion methods
+        rename("org.joda.time.Duration toStandardDays()", "toDays", false);
+        rename("org.joda.time.Duration toStandardHours()", "toHours", false);
+        rename("org.joda.time.Duration toStandardMinutes()", "toMinutes", false);
+        rename("org.joda.time.Duration toStandardSeconds()", "getSeconds", false);
+        // DateTimeZone
+        rename("org.joda.time.DateTimeZone forID(String)", "of", false);
+        // DateTimeFormat
+        rename("org.joda.time.format.DateTimeFormat forPattern(String)", "ofPattern", false);
+        // Instant
+        rename("org.joda.time.Instant getMillis()", "toEpochMilli", false);
+        // BaseDuration
+        rename("org.joda.time.base.BaseDuration getMillis()", "toMillis", true);
+        // LocalDate accessors
+        rename("org.joda.time.LocalDate getMonthOfYear()", "getMonthValue", false);
+        rename("org.joda.time.LocalDate withMonthOfYear(int)", "withMonth", false);
+        // LocalTime accessors
+        rename("org.joda.time.LocalTime getHourOfDay()", "getHour", false);
+        rename("org.joda.time.LocalTime getMinuteOfHour()", "getMinute", false);
+        rename("org.joda.time.LocalTime getSecondOfMinute()", "getSecond", false);
+        rename("org.joda.time.LocalTime withHourOfDay(int)", "withHour", false);
+        rename("org.joda.time.LocalTime withMinuteOfHour(int)", "withMinute", false);
+        rename("org.joda.time.LocalTime withSecondOfMinute(int)", "withSecond", false);
+    }
+
+    private static void rename(String methodPattern, String newMethodName, boolean matchOverrides) {
+        int space = methodPattern.indexOf(' ');
+        String declaringType = methodPattern.substring(0, space);
+        String oldMethodName = methodPattern.substring(space + 1, methodPattern.indexOf('('));
+        RENAMES_BY_NAME.computeIfAbsent(oldMethodName, k -> new ArrayList<>(2))
+                .add(new Rename(new MethodMatcher(methodPattern, matchOverrides), declaringType, newMethodName));
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return JodaRecipeMetrics.measure(this, performance, skipped, Preconditions.check(new UsesJodaType<>(UsesJodaType.ANY), new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.Import visitImport(J.Import _import, ExecutionContext ctx) {
+                J.Import i = super.visitImport(_import, ctx);
+                if (!i.isStatic()) {
+                    return i;
+                }
+                List<Rename> candidates = RENAMES_BY_NAME.get(i.getQualid().getSimpleName());
+                if (candidates != null) {
+                    for (Rename rename : candidates) {
+                        if (rename.getDeclaringType().equals(i.getTypeName())) {
+                            J.FieldAccess qualid = i.getQualid();
+                            return i.withQualid(qualid.withName(qualid.getName().withSimpleName(rename.getNewMethodName())));
+                        }
+                    }
+                }
+                return i;
+            }
+
+            @Override
+            public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+                J.MethodDeclaration m = super.visitMethodDeclaration(method, ctx);
+                List<Rename> candidates = RENAMES_BY_NAME.get(m.getSimpleName());
+                J.ClassDeclaration classDecl = getCursor().firstEnclosing(J.ClassDeclaration.class);
+                if (candidates == null || classDecl == null) {
+                    return m;
+                }
+                for (Rename rename : candidates) {
+                    if (rename.getMatcher().matches(m, classDecl)) {
+                        JavaType.Method type = m.getMethodType();
+                        if (type != null) {
+                            type = type.withName(rename.getNewMethodName());
+                        }
+                        return m.withName(m.getName().withSimpleName(rename.getNewMethodName()).withType(type))
+                                .withMethodType(type);
+                    }
+                }
+                return m;
+            }
+
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                J.MethodInvocation m = super.visitMethodInvocation(method, ctx);
+                Rename rename = find(m.getSimpleName(), m.getMethodType());
+                JodaRecipeMetrics.dispatched(m.getMethodType(), rename != null);
+                if (rename == null) {
+                    return m;
+                }
+                JavaType.Method type = m.getMethodType();
+                if (type != null) {
+                    type = type.withName(rename.getNewMethodName());
+                }
+                return m.withName(m.getName().withSimpleName(rename.getNewMethodName()).withType(type))
+                        .withMethodType(type);
+            }
+
+            @Override
+            public J.MemberReference visitMemberReference(J.MemberReference memberRef, ExecutionContext ctx) {
+                J.MemberReference m = super.visitMemberReference(memberRef, ctx);
+                Rename rename = find(m.getReference().getSimpleName(), m.getMethodType());
+                JodaRecipeMetrics.dispatched(m.getMethodType(), rename != null);
+                if (rename == null) {
+                    return m;
+                }
+                JavaType.Method type = m.getMethodType();
+                if (type != null) {
+                    type = type.withName(rename.getNewMethodName());
+                }
+                return m.withReference(m.getReference().withSimpleName(rename.getNewMethodName()))
+                        .withMethodType(type);
+            }
+        }));
+    }
+
+    /**
+     * @return Whether this recipe renames calls of the given method.
+     */
+    static boolean renames(JavaType.Method methodType) {
+        return find(methodType.getName(), methodType) != null;
+    }
+
+    private static @Nullable Rename find(String methodName, JavaType.@Nullable Method methodType) {
+        List<Rename> candidates = RENAMES_BY_NAME.get(methodName);
+        if (candidates == null || methodType == null) {
+            return null;
+        }
+        for (Rename rename : candidates) {
+            if (rename.getMatcher().matches(methodType)) {
+                return rename;
+            }
+        }
+        return null;
+    }
+
+    @Value
+    private static class Rename {
+        MethodMatcher matcher;
+        String declaringType;
+        String newMethodName;
+    }
+}
@@ -0,0 +1,528 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.joda.time;
+
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.DataTable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.Parser;
+import org.openrewrite.Recipe;
+import org.openrewrite.Result;
+import org.openrewrite.SourceFile;
+import org.openrewrite.config.Environment;
+import org.openrewrite.internal.InMemoryLargeSourceSet;
+import org.openrewrite.java.JavaParser;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Migrates the Java sources of a project directory from Joda-Time to {@code java.time} in place, by
+ * running {@code org.openrewrite.java.joda.time.NoJodaTime} on them.
+ * <p>
+ * With a manifest, the migration is incremental: the content hash of every source file and whether it is
+ * free of Joda-Time are recorded after each run, and later runs neither parse nor migrate the files that
+ * were Joda-free and have not changed since. When a file that used Joda-Time, or one that does now, was changed,
+ * added or removed, all files are parsed and migrated again, as the types of the files that call it may have
+ * changed. As the skipped files are not parsed, their types are only known to the migrated files when the
+ * project's compiled classes are on the given classpath.
+ * <p>
+ * With a parallelism greater than one, all source files are still parsed together, so that types declared in one
+ * source set are known to the others, and are then grouped by source set, e.g. {@code moduleA/src/main/java}. The
+ * source sets are migrated concurrently on a {@link ForkJoinPool}, where idle workers steal the source sets of busy
+ * ones. The Joda-Time recipes keep no state across source files: recipe instances are immutable, visitors are created
+ * per source file and the shared {@link JodaTemplates} are built once and never mutated, so a single recipe instance
+ * is shared by all workers. Every source set is migrated with its own execution context, which starts with the
+ * messages of the given one, and whose data table rows are added to the given one afterwards. The results and data
+ * table rows are merged in source set order, so a parallel run writes the same files as a sequential one.
+ * <p>
+ * In {@link #withStreaming(boolean) streaming} mode, the source files are parsed, migrated and written one at a
+ * time, and each is released before the next one is parsed, so that the heap needed depends on the largest source
+ * file rather than on the number of source files. Types declared in other source files are then only known when
+ * their compiled classes are on the given classpath. Streaming migrates on the calling thread, whatever the parallelism.
+ * <p>
+ * With {@link #withPatches(Writer) patches}, the source files are left as they are, and the unified diff of every
+ * migrated source file is written instead. Combined with streaming, the patch of each source file is written and
+ * flushed as soon as the file is migrated, so that reviewers can start on the first patches of a large migration
+ * while the rest is still running, and no result is held until the end.
+ */
+public class JodaMigration {
+    public static final String RECIPE = "org.openrewrite.java.joda.time.NoJodaTime";
+
+    private final Path projectDir;
+    private final Collection<Path> classpath;
+
+    @Nullable
+    private final Path manifest;
+
+    private final int parallelism;
+
+    private final boolean streaming;
+
+    @Nullable
+    private final Writer patches;
+
+    /**
+     * @param projectDir The directory whose {@code .java} files are migrated.
+     * @param classpath  The classpath to parse the sources with, which must include Joda-Time.
+     * @param manifest   The manifest file of an incremental migration, or {@code null} to migrate all files.
+     */
+    public JodaMigration(Path projectDir, Collection<Path> classpath, @Nullable Path manifest) {
+        this(projectDir, classpath, manifest, 1);
+    }
+
+    /**
+     * @param parallelism The number of source sets migrated concurrently, or {@code 1} to migrate all files in one run.
+     */
+    public JodaMigration(Path projectDir, Collection<Path> classpath, @Nullable Path manifest, int parallelism) {
+        this(projectDir, classpath, manifest, parallelism, false, null);
+    }
+
+    private JodaMigration(Path projectDir, Collection<Path> classpath, @Nullable Path manifest, int parallelism,
+                          boolean streaming, @Nullable Writer patches) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1, but was " + parallelism);
+        }
+        this.projectDir = projectDir;
+        this.classpath = classpath;
+        this.manifest = manifest;
+        this.parallelism = parallelism;
+        this.streaming = streaming;
+        this.patches = patches;
+    }
+
+    /**
+     * @return A migration that parses, migrates and writes one source file at a time.
+     */
+    public JodaMigration withStreaming(boolean streaming) {
+        return new JodaMigration(projectDir, classpath, manifest, parallelism, streaming, patches);
+    }
+
+    /**
+     * @param patches Where to write the unified diff of every migrated source file instead of changing the file,
+     *                or {@code null} to migrate the source files in place. Migrated source files are not recorded
+     *                in the manifest then, as they still use Joda-Time.
+     * @return A migration that writes patches.
+     */
+    public JodaMigration withPatches(@Nullable Writer patches) {
+        return new JodaMigration(projectDir, classpath, manifest, parallelism, streaming, patches);
+    }
+
+    /**
+     * Migrates a project directory with the classpath of this JVM, which must include Joda-Time.
+     * <p>
+     * Usage: {@code JodaMigration <projectDir> [--manifest <file>] [--parallelism <n>] [--streaming] [--patches <file>|-]},
+     * where {@code --patches -} writes the patches to the standard output.
+     */
+    public static void main(String[] args) throws IOException {
+        Path projectDir = null;
+        Path manifest = null;
+        int parallelism = 1;
+        boolean streaming = false;
+        String patches = null;
+        for (int i = 0; i < args.length; i++) {
+            if ("--streaming".equals(args[i])) {
+                streaming = true;
+            } else if ("--patches".equals(args[i]) && i + 1 < args.length) {
+                patches = args[++i];
+            } else if ("--manifest".equals(args[i]) && i + 1 < args.length) {
+                manifest = Paths.get(args[++i]);
+            } else if ("--parallelism".equals(args[i]) && i + 1 < args.length) {
+                parallelism = Integer.parseInt(args[++i]);
+            } else if (projectDir == null && !args[i].startsWith("--")) {
+                projectDir = Paths.get(args[i]);
+            } else {
+                projectDir = null;
+                break;
+            }
+        }
+        if (projectDir == null) {
+            System.err.println("Usage: JodaMigration <projectDir> [--manifest <file>] [--parallelism <n>] [--streaming] [--patches <file>|-]");
+            System.exit(2);
+            return;
+        }
+        Writer patchWriter = patches == null ? null : "-".equals(patches) ?
+                new OutputStreamWriter(System.out, UTF_8) :
+                Files.newBufferedWriter(Paths.get(patches), UTF_8);
+        try {
+            Summary summary = new JodaMigration(projectDir, JavaParser.runtimeClasspath(), manifest, parallelism)
+                    .withStreaming(streaming)
+                    .withPatches(patchWriter)
+                    .run(new InMemoryExecutionContext(Throwable::printStackTrace));
+            // the standard output may be taken by the patches
+            (patchWriter == null ? System.out : System.err).println("Migrated " + summary.getChanged() + " of " +
+                    summary.getSourceFiles() + " source files, skipped " + summary.getSkipped());
+        } finally {
+            if (patchWriter != null) {
+                patchWriter.close();
+            }
+        }
+    }
+
+    public Summary run(ExecutionContext ctx) throws IOException {
+        return run(ctx, loadRecipe(), null);
+    }
+
+    /**
+     * @param recipe  The loaded {@link #RECIPE}, which may be shared by the migrations of many projects.
+     * @param parsers Permits to parse and migrate, which bound the number of migrations that are CPU-bound at
+     *                the same time, or {@code null} for no bound. Finding, reading and writing the files of the
+     *                project do not need a permit.
+     */
+    Summary run(ExecutionContext ctx, Recipe recipe, @Nullable Semaphore parsers) throws IOException {
+        JodaMigrationManifest hashes = manifest == null ? new JodaMigrationManifest() : JodaMigrationManifest.read(manifest);
+
+        List<Path> sourcePaths = findSources();
+        Set<String> relativePaths = new HashSet<>();
+        Map<String, String> contentHashes = new HashMap<>();
+        Map<String, byte[]> contents = new HashMap<>();
+        // a Joda-free file that was not changed may still call one that changed from or to Joda-Time types
+        boolean jodaChanged = false;
+        for (Path sourcePath : sourcePaths) {
+            String relativePath = relativize(sourcePath);
+            relativePaths.add(relativePath);
+            byte[] content = Files.readAllBytes(sourcePath);
+            String hash = JodaMigrationManifest.hash(content);
+            contentHashes.put(relativePath, hash);
+            if (!jodaChanged && !hashes.isUnchanged(relativePath, hash)) {
+                jodaChanged = hashes.usedJoda(relativePath) || JodaMigrationManifest.mentionsJoda(content);
+            }
+            // parsed from the content that was already read, so that parsing does not wait for the disk,
+            // unless streaming, which must not hold the content of all source files
+            if (!streaming) {
+                contents.put(relativePath, content);
+            }
+        }
+        jodaChanged |= hashes.retainAll(relativePaths);
+
+        Map<String, String> hashByPath = new HashMap<>();
+        List<Parser.Input> toParse = new ArrayList<>();
+        for (Path sourcePath : sourcePaths) {
+            String relativePath = relativize(sourcePath);
+            String hash = contentHashes.get(relativePath);
+            if (jodaChanged || !hashes.isJodaFree(relativePath, hash)) {
+                hashByPath.put(relativePath, hash);
+                byte[] content = contents.get(relativePath);
+                toParse.add(content == null ?
+                        new Parser.Input(sourcePath, () -> read(sourcePath)) :
+                        new Parser.Input(sourcePath, () -> new ByteArrayInputStream(content)));
+            }
+        }
+
+        int changed = 0;
+        if (!toParse.isEmpty()) {
+            if (parsers != null) {
+                parsers.acquireUninterruptibly();
+            }
+            try {
+                if (streaming) {
+                    JavaParser parser = parser();
+                    for (Parser.Input input : toParse) {
+                        parser.reset();
+                        changed += write(migrate(recipe, parse(parser, singletonList(input), ctx), ctx), hashes, hashByPath);
+                    }
+                } else {
+                    List<SourceFile> sourceFiles = parse(parser(), toParse, ctx);
+                    changed = write(parallelism == 1 ?
+                            migrate(recipe, sourceFiles, ctx) :
+                            migrateInParallel(recipe, sourceFiles, ctx), hashes, hashByPath);
+                }
+            } finally {
+                if (parsers != null) {
+                    parsers.release();
+                }
+            }
+        }
+
+        if (manifest != null) {
+            hashes.write(manifest);
+        }
+        return new Summary(sourcePaths.size(), sourcePaths.size() - toParse.size(), changed);
+    }
+
+    private JavaParser parser() {
+        return JavaParser.fromJavaVersion()
+                .classpath(classpath)
+                .build();
+    }
+
+    private List<SourceFile> parse(JavaParser parser, List<Parser.Input> inputs, ExecutionContext ctx) {
+        return parser
+                .parseInputs(inputs, projectDir, ctx)
+                .collect(toList());
+    }
+
+    private static Migrated migrate(Recipe recipe, List<SourceFile> sourceFiles, ExecutionContext ctx) {
+        List<Result> results = recipe.run(new InMemoryLargeSourceSet(sourceFiles), ctx)
+                .getChangeset()
+                .getAllResults();
+        return new Migrated(sourceFiles, results);
+    }
+
+    private Migrated migrateInParallel(Recipe recipe, List<SourceFile> sourceFiles, ExecutionContext ctx) {
+        // sorted by source set, so that the results are merged in a stable order
+        Map<Path, List<SourceFile>> bySourceSet = new TreeMap<>();
+        for (SourceFile sourceFile : sourceFiles) {
+            bySourceSet.computeIfAbsent(sourceSet(sourceFile.getSourcePath()), k -> new ArrayList<>()).add(sourceFile);
+        }
+        // execution contexts hold the state of a recipe run, so every source set gets its own
+        List<ExecutionContext> contexts = new ArrayList<>(bySourceSet.size());
+        for (int i = 0; i < bySourceSet.size(); i++) {
+            contexts.add(copyMessages(ctx));
+        }
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            Migrated migrated = pool.invoke(new MigrateSourceSets(recipe, new ArrayList<>(bySourceSet.values()), contexts));
+            for (ExecutionContext sourceSetCtx : contexts) {
+                addDataTableRows(sourceSetCtx, ctx);
+            }
+            return migrated;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * @return An execution context with the messages of the given one, except its data tables.
+     */
+    private static ExecutionContext copyMessages(ExecutionContext ctx) {
+        ExecutionContext copy = new InMemoryExecutionContext(ctx::onError);
+        for (Map.Entry<String, @Nullable Object> message : ctx.getMessages().entrySet()) {
+            if (!ExecutionContext.DATA_TABLES.equals(message.getKey())) {
+                copy.putMessage(message.getKey(), message.getValue());
+            }
+        }
+        return copy;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void addDataTableRows(ExecutionContext from, ExecutionContext to) {
+        Map<DataTable<?>, List<?>> dataTables = from.getMessage(ExecutionContext.DATA_TABLES);
+        if (dataTables == null) {
+            return;
+        }
+        for (Map.Entry<DataTable<?>, List<?>> dataTable : dataTables.entrySet()) {
+            for (Object row : dataTable.getValue()) {
+                ((DataTable<Object>) dataTable.getKey()).insertRow(to, row);
+            }
+        }
+    }
+
+    /**
+     * @return The source set of a source file, e.g. {@code moduleA/src/main/java} for
+     * {@code moduleA/src/main/java/com/example/A.java}, or its directory if it is not in a {@code src/<name>/java} directory.
+     */
+    static Path sourceSet(Path relativePath) {
+        for (int i = 0; i + 2 < relativePath.getNameCount() - 1; i++) {
+            if ("src".equals(relativePath.getName(i).toString()) && "java".equals(relativePath.getName(i + 2).toString())) {
+                return relativePath.subpath(0, i + 3);
+            }
+        }
+        Path parent = relativePath.getParent();
+        return parent == null ? Paths.get("") : parent;
+    }
+
+    /**
+     * @return The number of source files the migration changed.
+     */
+    private int write(Migrated migrated, JodaMigrationManifest hashes, Map<String, String> hashByPath) throws IOException {
+        for (Result result : migrated.getResults()) {
+            write(result, hashes, hashByPath);
+        }
+        for (SourceFile sourceFile : migrated.getSourceFiles()) {
+            String relativePath = sourceFile.getSourcePath().toString();
+            String hash = hashByPath.remove(relativePath);
+            if (hash != null) {
+                // unchanged by the migration
+                hashes.record(relativePath, hash, JodaMigrationManifest.isJodaFree(sourceFile));
+            }
+        }
+        return migrated.getResults().size();
+    }
+
+    private static InputStream read(Path sourcePath) {
+        try {
+            return Files.newInputStream(sourcePath);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void write(Result result, JodaMigrationManifest hashes, Map<String, String> hashByPath) throws IOException {
+        SourceFile before = result.getBefore();
+        SourceFile after = result.getAfter();
+        if (patches != null) {
+            if (before != null) {
+                // still the source file before the migration, so it is neither Joda-free nor unchanged
+                hashByPath.remove(before.getSourcePath().toString());
+            }
+            patches.write(result.diff());
+            patches.flush();
+            return;
+        }
+        if (before != null) {
+            hashByPath.remove(before.getSourcePath().toString());
+            if (after == null || !before.getSourcePath().equals(after.getSourcePath())) {
+                Files.deleteIfExists(projectDir.resolve(before.getSourcePath()));
+            }
+        }
+        if (after != null) {
+            Charset charset = after.getCharset();
+            if (charset == null) {
+                charset = UTF_8;
+            }
+            byte[] bytes = after.printAll().getBytes(charset);
+            Path path = projectDir.resolve(after.getSourcePath());
+            Files.createDirectories(path.getParent());
+            Files.write(path, bytes);
+            hashes.record(after.getSourcePath().toString(), JodaMigrationManifest.hash(bytes),
+                    JodaMigrationManifest.isJodaFree(after));
+        }
+    }
+
+    private List<Path> findSources() throws IOException {
+        try (Stream<Path> files = Files.walk(projectDir)) {
+            return files
+                    .filter(p -> p.toString().endsWith(".java") && Files.isRegularFile(p))
+                    .filter(p -> !isHidden(projectDir.relativize(p)))
+                    .sorted()
+                    .collect(toList());
+        }
+    }
+
+    private static boolean isHidden(Path relativePath) {
+        for (Path segment : relativePath) {
+            if (segment.toString().startsWith(".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String relativize(Path sourcePath) {
+        return projectDir.relativize(sourcePath).toString();
+    }
+
+    /**
+     * @return The {@link #RECIPE}, which is loaded once per JVM and shared, as recipes are immutable.
+     */
+    static Recipe loadRecipe() {
+        return LoadedRecipe.INSTANCE;
+    }
+
+    /**
+     * Only this module's package is scanned for recipe classes, instead of every class on the classpath, which
+     * dominates the time to the first migrated file of a short run. The recipes that {@link #RECIPE} lists by
+     * class name are still found through the class loader.
+     */
+    static Recipe scanRecipe() {
+        return Environment.builder()
+                .scanRuntimeClasspath(JodaMigration.class.getPackage().getName())
+                .build()
+                .activateRecipes(RECIPE);
+    }
+
+    private static final class LoadedRecipe {
+        static final Recipe INSTANCE = scanRecipe();
+    }
+
+    /**
+     * Migrates a range of source sets, splitting it in halves until a single source set is left, so that the
+     * pool's idle workers can steal the other halves.
+     */
+    static class MigrateSourceSets extends RecursiveTask<Migrated> {
+        private final Recipe recipe;
+        private final List<List<SourceFile>> sourceSets;
+        private final List<ExecutionContext> contexts;
+
+        /**
+         * @param contexts The execution context of each source set.
+         */
+        MigrateSourceSets(Recipe recipe, List<List<SourceFile>> sourceSets, List<ExecutionContext> contexts) {
+            this.recipe = recipe;
+            this.sourceSets = sourceSets;
+            this.contexts = contexts;
+        }
+
+        @Override
+        protected Migrated compute() {
+            if (sourceSets.isEmpty()) {
+                return new Migrated(emptyList(), emptyList());
+            }
+            if (sourceSets.size() == 1) {
+                return migrate(recipe, sourceSets.get(0), contexts.get(0));
+            }
+            int half = sourceSets.size() / 2;
+            MigrateSourceSets first = new MigrateSourceSets(recipe, sourceSets.subList(0, half), contexts.subList(0, half));
+            first.fork();
+            Migrated second = new MigrateSourceSets(recipe, sourceSets.subList(half, sourceSets.size()),
+                    contexts.subList(half, contexts.size())).compute();
+            return first.join().merge(second);
+        }
+    }
+
+    @Value
+    static class Migrated {
+        List<SourceFile> sourceFiles;
+        List<Result> results;
+
+        Migrated merge(Migrated other) {
+            List<SourceFile> mergedSourceFiles = new ArrayList<>(sourceFiles);
+            mergedSourceFiles.addAll(other.sourceFiles);
+            List<Result> mergedResults = new ArrayList<>(results);
+            mergedResults.addAll(other.results);
+            return new Migrated(mergedSourceFiles, mergedResults);
+        }
+    }
+
+    @Value
+    public static class Summary {
+        /**
+         * The number of Java source files in the project directory.
+         */
+        int sourceFiles;
+
+        /**
+         * The number of source files that were skipped, as they were Joda-free and unchanged since the last run.
+         */
+        int skipped;
+
+        /**
+         * The number of source files the migration changed.
+         */
+        int changed;
+    }
+}
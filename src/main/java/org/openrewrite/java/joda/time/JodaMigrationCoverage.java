@@ -0,0 +1,133 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.joda.time;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Recipe;
+import org.openrewrite.java.ChangeType;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.tree.JavaType;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tells which recipe of {@code NoJodaTime} migrates calls of a Joda-Time method, without running any of them.
+ * <p>
+ * A call is migrated by the first of the following that applies: the rules of {@link JodaRules}, the
+ * {@link JodaMethodIndex} of the imperative recipe that dispatches it, the renames of
+ * {@link JodaMethodNamesToJavaTime}, and the {@link ChangeType} of its declaring type when the new type has a public
+ * method of the same name and arity. A recipe matching a call does not guarantee that it rewrites every form of it,
+ * as some recipes also inspect the arguments.
+ */
+final class JodaMigrationCoverage {
+    static final String CHANGE_TYPE = "ChangeType";
+
+    // the methods the imperative recipes of NoJodaTime migrate, in the order it runs them
+    private static final Map<Class<? extends Recipe>, JodaMethodIndex> METHODS = new LinkedHashMap<>();
+
+    // the ChangeType steps of NoJodaTime, old to new fully qualified type name
+    private static final Map<String, String> TYPE_CHANGES = new HashMap<>();
+
+    static {
+        METHODS.put(JodaDateTimeToJavaTime.class, JodaDateTimeToJavaTime.METHODS);
+        METHODS.put(JodaAbstractInstantToJavaTime.class, JodaAbstractInstantToJavaTime.METHODS);
+        METHODS.put(JodaDurationToJavaTime.class, JodaDurationToJavaTime.METHODS);
+        METHODS.put(JodaIntervalToJavaTime.class, JodaIntervalToJavaTime.METHODS);
+        METHODS.put(JodaLocalDateToJavaTime.class, JodaLocalDateToJavaTime.METHODS);
+        METHODS.put(JodaLocalTimeToJavaTime.class, JodaLocalTimeToJavaTime.METHODS);
+        METHODS.put(JodaFormatterToJavaTime.class, JodaFormatterToJavaTime.METHODS);
+        METHODS.put(JodaDateTimeZoneToJavaTime.class, JodaDateTimeZoneToJavaTime.METHODS);
+        METHODS.put(JodaDateMidnightToJavaTime.class, JodaDateMidnightToJavaTime.METHODS);
+        METHODS.put(JodaInstantToJavaTime.class, JodaInstantToJavaTime.METHODS);
+        METHODS.put(JodaTimePeriodToJavaTime.class, JodaTimePeriodToJavaTime.METHODS);
+
+        TYPE_CHANGES.put("org.joda.time.DateTime", "java.time.ZonedDateTime");
+        TYPE_CHANGES.put("org.joda.time.base.BaseDateTime", "java.time.ZonedDateTime");
+        TYPE_CHANGES.put("org.joda.time.base.AbstractDateTime", "java.time.ZonedDateTime");
+        TYPE_CHANGES.put("org.joda.time.DateTimeZone", "java.time.ZoneId");
+        TYPE_CHANGES.put("org.joda.time.format.DateTimeFormatter", "java.time.format.DateTimeFormatter");
+        TYPE_CHANGES.put("org.joda.time.format.DateTimeFormat", "java.time.format.DateTimeFormatter");
+        TYPE_CHANGES.put("org.joda.time.Duration", "java.time.Duration");
+        TYPE_CHANGES.put("org.joda.time.ReadableDuration", "java.time.Duration");
+        TYPE_CHANGES.put("org.joda.time.base.BaseDuration", "java.time.Duration");
+        TYPE_CHANGES.put("org.joda.time.base.AbstractDuration", "java.time.Duration");
+        TYPE_CHANGES.put("org.joda.time.Instant", "java.time.Instant");
+        TYPE_CHANGES.put("org.joda.time.base.AbstractInstant", "java.time.Instant");
+        TYPE_CHANGES.put("org.joda.time.ReadableInstant", "java.time.Instant");
+        TYPE_CHANGES.put("org.joda.time.Interval", "org.threeten.extra.Interval");
+        TYPE_CHANGES.put("org.joda.time.base.BaseInterval", "org.threeten.extra.Interval");
+        TYPE_CHANGES.put("org.joda.time.base.AbstractInterval", "org.threeten.extra.Interval");
+        TYPE_CHANGES.put("org.joda.time.DateMidnight", "java.time.ZonedDateTime");
+        TYPE_CHANGES.put("org.joda.time.LocalDate", "java.time.LocalDate");
+        TYPE_CHANGES.put("org.joda.time.LocalTime", "java.time.LocalTime");
+        TYPE_CHANGES.put("org.joda.time.LocalDateTime", "java.time.LocalDateTime");
+    }
+
+    // call sites of the same method share their answer, the empty string standing for none
+    private static final Map<String, String> BY_METHOD = new ConcurrentHashMap<>();
+
+    private JodaMigrationCoverage() {
+    }
+
+    /**
+     * @return The simple name of the recipe that migrates calls of the given method, or {@code null} if none does.
+     */
+    static @Nullable String migratedBy(JavaType.Method methodType) {
+        String migratedBy = BY_METHOD.computeIfAbsent(MethodMatcher.methodPattern(methodType), k -> {
+            String recipe = compute(methodType);
+            return recipe == null ? "" : recipe;
+        });
+        return migratedBy.isEmpty() ? null : migratedBy;
+    }
+
+    private static @Nullable String compute(JavaType.Method methodType) {
+        Class<? extends Recipe> rule = JodaRules.TABLE.recipe(methodType);
+        if (rule != null) {
+            return rule.getSimpleName();
+        }
+        for (Map.Entry<Class<? extends Recipe>, JodaMethodIndex> methods : METHODS.entrySet()) {
+            if (methods.getValue().find(methodType) != null) {
+                return methods.getKey().getSimpleName();
+            }
+        }
+        if (JodaMethodNamesToJavaTime.renames(methodType)) {
+            return JodaMethodNamesToJavaTime.class.getSimpleName();
+        }
+        String newType = TYPE_CHANGES.get(methodType.getDeclaringType().getFullyQualifiedName());
+        if (newType != null && !methodType.isConstructor() && hasMethod(newType, methodType)) {
+            return CHANGE_TYPE;
+        }
+        return null;
+    }
+
+    private static boolean hasMethod(String type, JavaType.Method methodType) {
+        try {
+            for (Method method : Class.forName(type, false, JodaMigrationCoverage.class.getClassLoader()).getMethods()) {
+                if (method.getName().equals(methodType.getName()) &&
+                    method.getParameterCount() == methodType.getParameterTypes().size()) {
+                    return true;
+                }
+            }
+        } catch (ClassNotFoundException e) {
+            // e.g. ThreeTen-Extra, which is not a dependency of this module at runtime
+        }
+        return false;
+    }
+}
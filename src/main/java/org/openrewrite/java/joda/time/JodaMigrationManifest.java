@@ -0,0 +1,204 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.joda.time;
+
+import lombok.Value;
+import org.openrewrite.SourceFile;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaSourceFile;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Content hashes of the source files of a project, each with the verdict whether the file was free of
+ * Joda-Time when it was last migrated. A file whose content still has the recorded hash and that was
+ * Joda-free does not need to be parsed or migrated again, unless a file that used or now uses Joda-Time
+ * was changed, added or removed since: the types of its unchanged callers may have changed with it.
+ */
+final class JodaMigrationManifest {
+    static final String DEFAULT_FILE_NAME = ".rewrite-joda-manifest";
+
+    private static final String HEADER = "# rewrite-joda manifest v1: path, SHA-256 of content, verdict";
+    private static final String JODA_FREE = "joda-free";
+    private static final String JODA = "joda";
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * @return The manifest stored in the given file, or an empty manifest if the file does not exist.
+     */
+    static JodaMigrationManifest read(Path file) throws IOException {
+        JodaMigrationManifest manifest = new JodaMigrationManifest();
+        if (!Files.exists(file)) {
+            return manifest;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file, UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] fields = line.split("\t");
+                if (fields.length == 3) {
+                    manifest.entries.put(fields[0], new Entry(fields[1], JODA_FREE.equals(fields[2])));
+                }
+            }
+        }
+        return manifest;
+    }
+
+    void write(Path file) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, UTF_8)) {
+            writer.write(HEADER);
+            writer.newLine();
+            // sorted, so that the manifest is stable across runs
+            for (Map.Entry<String, Entry> e : new TreeMap<>(entries).entrySet()) {
+                writer.write(e.getKey() + '\t' + e.getValue().getHash() + '\t' +
+                             (e.getValue().isJodaFree() ? JODA_FREE : JODA));
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * @return {@code true} when the source file at the given path had the given content hash and was
+     * free of Joda-Time when it was recorded.
+     */
+    boolean isJodaFree(String path, String hash) {
+        Entry entry = entries.get(path);
+        return entry != null && entry.isJodaFree() && entry.getHash().equals(hash);
+    }
+
+    /**
+     * @return {@code true} when the source file at the given path had the given content hash when it was recorded.
+     */
+    boolean isUnchanged(String path, String hash) {
+        Entry entry = entries.get(path);
+        return entry != null && entry.getHash().equals(hash);
+    }
+
+    /**
+     * @return {@code true} when the source file at the given path was recorded as using Joda-Time.
+     */
+    boolean usedJoda(String path) {
+        Entry entry = entries.get(path);
+        return entry != null && !entry.isJodaFree();
+    }
+
+    void record(String path, String hash, boolean jodaFree) {
+        entries.put(path, new Entry(hash, jodaFree));
+    }
+
+    /**
+     * Forgets the source files that are not among the given paths anymore.
+     *
+     * @return {@code true} when one of the forgotten source files used Joda-Time.
+     */
+    boolean retainAll(Set<String> paths) {
+        boolean jodaRemoved = false;
+        for (Iterator<Map.Entry<String, Entry>> i = entries.entrySet().iterator(); i.hasNext(); ) {
+            Map.Entry<String, Entry> e = i.next();
+            if (!paths.contains(e.getKey())) {
+                jodaRemoved |= !e.getValue().isJodaFree();
+                i.remove();
+            }
+        }
+        return jodaRemoved;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    static String hash(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            // every JVM is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @return Whether the content of a source file that was not parsed yet names the Joda-Time package, as its
+     * imports and fully qualified references do.
+     */
+    static boolean mentionsJoda(byte[] content) {
+        return new String(content, UTF_8).contains("org.joda.time");
+    }
+
+    /**
+     * A Java source file is free of Joda-Time when none of the types it uses, including the declaring, return and
+     * parameter types of the methods it calls, is a Joda-Time type, as for the precondition of the recipes. Calls
+     * of unknown methods, such as of types that were neither parsed nor on the classpath, may return Joda-Time
+     * types, so a source file with such calls is never free of Joda-Time.
+     */
+    static boolean isJodaFree(SourceFile sourceFile) {
+        if (!(sourceFile instanceof JavaSourceFile)) {
+            return false;
+        }
+        JavaSourceFile cu = (JavaSourceFile) sourceFile;
+        return (UsesJodaType.typesPresent(cu) & UsesJodaType.ANY) == 0 && !hasUnknownCalls(cu);
+    }
+
+    private static boolean hasUnknownCalls(JavaSourceFile cu) {
+        AtomicBoolean unknown = new AtomicBoolean();
+        new JavaIsoVisitor<AtomicBoolean>() {
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, AtomicBoolean u) {
+                if (method.getMethodType() == null) {
+                    u.set(true);
+                }
+                return super.visitMethodInvocation(method, u);
+            }
+
+            @Override
+            public J.NewClass visitNewClass(J.NewClass newClass, AtomicBoolean u) {
+                if (newClass.getConstructorType() == null) {
+                    u.set(true);
+                }
+                return super.visitNewClass(newClass, u);
+            }
+        }.visit(cu, unknown);
+        return unknown.get();
+    }
+
+    @Value
+    private static class Entry {
+        String hash;
+        boolean jodaFree;
+    }
+}
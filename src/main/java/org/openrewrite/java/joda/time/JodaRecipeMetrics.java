@@ -0,0 +1,196 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.joda.time;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.SourceFile;
+import org.openrewrite.Tree;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.joda.time.table.JodaRecipePerformance;
+import org.openrewrite.java.joda.time.table.JodaSkippedSourceFiles;
+import org.openrewrite.java.tree.JavaType;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records a {@link JodaRecipePerformance} row for every source file a Joda-Time recipe visits, when
+ * recording is {@link JodaRecipePerformance#isEnabled(ExecutionContext) enabled}. The counters are kept
+ * per thread while the recipe's visitor runs, so the visitors only need to report what they do.
+ * <p>
+ * When a {@link JodaSkippedSourceFiles#getFileTimeBudget(ExecutionContext) per-file time budget} is set, every
+ * report is also a checkpoint: a recipe that exceeds the budget on a source file gives up on it, and the remaining
+ * Joda-Time recipes of the run skip it, so that a single pathological file, such as a large generated source, does
+ * not stall the run. This only rolls back the recipe that gave up; {@link RevertJodaSkippedSourceFiles} restores
+ * the whole file at the end of {@code NoJodaTime}.
+ */
+final class JodaRecipeMetrics {
+    private static final ThreadLocal<@Nullable Counters> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Execution context message with the paths of the source files the Joda-Time recipes gave up on.
+     */
+    private static final String SKIPPED = "org.openrewrite.java.joda.time.skippedSourceFiles";
+
+    private JodaRecipeMetrics() {
+    }
+
+    static TreeVisitor<?, ExecutionContext> measure(Recipe recipe, JodaRecipePerformance performance,
+                                                    JodaSkippedSourceFiles skipped,
+                                                    TreeVisitor<?, ExecutionContext> visitor) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public boolean isAcceptable(SourceFile sourceFile, ExecutionContext ctx) {
+                return visitor.isAcceptable(sourceFile, ctx);
+            }
+
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (!(tree instanceof SourceFile)) {
+                    return visitor.visit(tree, ctx);
+                }
+                Duration budget = JodaSkippedSourceFiles.getFileTimeBudget(ctx);
+                boolean recordPerformance = JodaRecipePerformance.isEnabled(ctx);
+                if (budget == null && !recordPerformance) {
+                    return visitor.visit(tree, ctx);
+                }
+                Path sourcePath = ((SourceFile) tree).getSourcePath();
+                if (budget != null && skippedSourceFiles(ctx).contains(sourcePath)) {
+                    return tree;
+                }
+                Counters previous = CURRENT.get();
+                long start = System.nanoTime();
+                Counters counters = new Counters(start, budget == null ? Long.MAX_VALUE : budget.toNanos());
+                CURRENT.set(counters);
+                try {
+                    return visitor.visit(tree, ctx);
+                } catch (RuntimeException e) {
+                    if (!isBudgetExceeded(e)) {
+                        throw e;
+                    }
+                    skippedSourceFiles(ctx).add(sourcePath);
+                    skipped.insertRow(ctx, new JodaSkippedSourceFiles.Row(
+                            recipe.getName(),
+                            sourcePath.toString(),
+                            budget.toMillis(),
+                            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+                    return tree;
+                } finally {
+                    long elapsed = System.nanoTime() - start;
+                    CURRENT.set(previous);
+                    if (recordPerformance) {
+                        performance.insertRow(ctx, new JodaRecipePerformance.Row(
+                                recipe.getName(),
+                                sourcePath.toString(),
+                                elapsed,
+                                counters.templateApplications,
+                                counters.matches,
+                                counters.misses));
+                    }
+                }
+            }
+        };
+    }
+
+    static void templateApplied() {
+        Counters counters = CURRENT.get();
+        if (counters != null) {
+            counters.templateApplications++;
+            counters.checkBudget();
+        }
+    }
+
+    /**
+     * Records whether the visitor of the measured recipe has a rewrite for a call it visited. Calls that are not
+     * rewritten only count as misses if they call Joda-Time, as the visitors see every call of the source file.
+     */
+    static void dispatched(JavaType.@Nullable Method methodType, boolean matched) {
+        Counters counters = CURRENT.get();
+        if (counters != null) {
+            if (matched) {
+                counters.matches++;
+            } else if (methodType != null && methodType.getDeclaringType().getFullyQualifiedName().startsWith("org.joda.time.")) {
+                counters.misses++;
+            }
+            counters.checkBudget();
+        }
+    }
+
+    /**
+     * A checkpoint for visitors that match calls without reporting it, so that they also respect the time budget.
+     */
+    static void checkBudget() {
+        Counters counters = CURRENT.get();
+        if (counters != null) {
+            counters.checkBudget();
+        }
+    }
+
+    /**
+     * @return Whether a Joda-Time recipe gave up on the given source file during the run.
+     */
+    static boolean isSkipped(ExecutionContext ctx, Path sourcePath) {
+        Set<Path> skipped = ctx.getMessage(SKIPPED);
+        return skipped != null && skipped.contains(sourcePath);
+    }
+
+    private static Set<Path> skippedSourceFiles(ExecutionContext ctx) {
+        return ctx.computeMessageIfAbsent(SKIPPED, k -> ConcurrentHashMap.newKeySet());
+    }
+
+    private static boolean isBudgetExceeded(@Nullable Throwable t) {
+        // the tree visitors wrap the exceptions of their visit methods
+        for (; t != null; t = t.getCause()) {
+            if (t == BudgetExceeded.INSTANCE) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static class Counters {
+        final long start;
+        final long budgetNanos;
+        int templateApplications;
+        int matches;
+        int misses;
+
+        Counters(long start, long budgetNanos) {
+            this.start = start;
+            this.budgetNanos = budgetNanos;
+        }
+
+        void checkBudget() {
+            if (budgetNanos != Long.MAX_VALUE && System.nanoTime() - start >= budgetNanos) {
+                throw BudgetExceeded.INSTANCE;
+            }
+        }
+    }
+
+    private static class BudgetExceeded extends RuntimeException {
+        static final BudgetExceeded INSTANCE = new BudgetExceeded();
+
+        private BudgetExceeded() {
+            // thrown for control flow only, so without a stack trace
+            super("Exceeded the per-file time budget", null, false, false);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.joda.time;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.java.tree.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A rewrite of a matched call into a {@link JodaTemplate}, whose parameters are taken from the select and the
+ * arguments of the call at fixed positions. The positions are declared once per rule, and every application
+ * fills a parameter array of the applying visitor with the matched trees, reading the arguments without copying
+ * them into a new list, instead of allocating the array of a varargs call per match.
+ */
+final class JodaRewriteRule {
+    /**
+     * The slot of the select of a method invocation, in contrast to the index of an argument.
+     */
+    static final int SELECT = -1;
+
+    private static final int[] NO_SLOTS = new int[0];
+
+    private final String code;
+    private final String[] imports;
+    private final int[] slots;
+    private final boolean convertsMillis;
+
+    private volatile @Nullable JodaTemplate template;
+
+    private JodaRewriteRule(String code, String[] imports, int[] slots) {
+        this.code = code;
+        this.imports = imports;
+        this.slots = slots;
+        this.convertsMillis = code.contains("* 1_000_000");
+    }
+
+    /**
+     * @param code    The template, whose simple type names must be in {@code imports}.
+     * @param imports The fully qualified types of the template, which are also added to the rewritten source file.
+     * @return A rule without parameters, see {@link #slots(int...)}.
+     */
+    static JodaRewriteRule of(String code, String... imports) {
+        return new JodaRewriteRule(code, imports, NO_SLOTS);
+    }
+
+    /**
+     * @param slots For every parameter of the template, in order, the index of the argument of the matched call
+     *              or {@link #SELECT}.
+     */
+    JodaRewriteRule slots(int... slots) {
+        return new JodaRewriteRule(code, imports, slots);
+    }
+
+    String[] getImports() {
+        return imports;
+    }
+
+    /**
+     * @return Whether the template introduces a {@code ZoneId.systemDefault()} call, which {@link SystemDefaultZone}
+     * may cache.
+     */
+    boolean usesSystemDefaultZone() {
+        return code.contains("ZoneId.systemDefault()");
+    }
+
+    J apply(Cursor cursor, J.MethodInvocation method, Parameters parameters) {
+        return apply(cursor, method.getCoordinates().replace(), method.getSelect(), method.getPadding().getArguments(), parameters);
+    }
+
+    J apply(Cursor cursor, J.NewClass newClass, Parameters parameters) {
+        return apply(cursor, newClass.getCoordinates().replace(), null, newClass.getPadding().getArguments(), parameters);
+    }
+
+    private J apply(Cursor cursor, JavaCoordinates coordinates, @Nullable Expression select,
+                    JContainer<Expression> arguments, Parameters parameters) {
+        Object[] params = parameters.ofLength(slots.length);
+        List<JRightPadded<Expression>> elements = arguments.getPadding().getElements();
+        for (int i = 0; i < slots.length; i++) {
+            params[i] = slots[i] == SELECT ? select : elements.get(slots[i]).getElement();
+        }
+        try {
+            // passed on as the varargs array of the template
+            J rewritten = template().apply(cursor, coordinates, params);
+            return convertsMillis ? MillisToNanos.fold(rewritten, cursor) : rewritten;
+        } finally {
+            // do not keep the trees of the last match reachable from the visitor
+            Arrays.fill(params, null);
+        }
+    }
+
+    private JodaTemplate template() {
+        JodaTemplate t = template;
+        if (t == null) {
+            t = JodaTemplates.get(code, imports);
+            template = t;
+        }
+        return t;
+    }
+
+    /**
+     * The parameter arrays of one visitor, one per number of parameters, which the rules it applies fill in turn.
+     * A visitor visits one source file at a time, so its arrays are not shared between threads.
+     */
+    static final class Parameters {
+        private Object[][] arrays = new Object[0][];
+
+        Object[] ofLength(int length) {
+            if (length >= arrays.length) {
+                arrays = Arrays.copyOf(arrays, length + 1);
+            }
+            Object[] params = arrays[length];
+            if (params == null) {
+                params = new Object[length];
+                arrays[length] = params;
+            }
+            return params;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.joda.time;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Recipe;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.tree.JavaType;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * The {@link JodaRewriteRule}s of several recipes, compiled into a single {@link JodaMethodIndex}, which
+ * dispatches a method type on its declaring type, name and arity. A recipe looks up the rule of a call
+ * with one traversal of the index, however many rules the table holds.
+ * <p>
+ * Rules belong to the recipe they are declared for, so that every recipe only applies its own rules, as when
+ * it runs on its own or its preconditions do not hold.
+ */
+final class JodaRuleTable {
+    private final JodaMethodIndex index = new JodaMethodIndex();
+    private final Map<String, MethodMatcher> matchers = new HashMap<>();
+    private final Map<MethodMatcher, Map<Class<? extends Recipe>, JodaRewriteRule>> rules = new IdentityHashMap<>();
+
+    private JodaRuleTable() {
+    }
+
+    static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return The rule of the given recipe for the given method type, or {@code null} if there is none.
+     */
+    @Nullable
+    JodaRewriteRule find(Class<? extends Recipe> recipe, JavaType.@Nullable Method methodType) {
+        MethodMatcher matched = index.find(methodType, matcher -> rules.get(matcher).containsKey(recipe));
+        return matched == null ? null : rules.get(matched).get(recipe);
+    }
+
+    /**
+     * @return A recipe with a rule for the given method type, or {@code null} if there is none.
+     */
+    @Nullable
+    Class<? extends Recipe> recipe(JavaType.@Nullable Method methodType) {
+        MethodMatcher matched = index.find(methodType);
+        return matched == null ? null : rules.get(matched).keySet().iterator().next();
+    }
+
+    static final class Builder {
+        private final JodaRuleTable table = new JodaRuleTable();
+        private @Nullable Class<? extends Recipe> recipe;
+
+        private Builder() {
+        }
+
+        /**
+         * Declares the recipe the following rules belong to.
+         */
+        Builder recipe(Class<? extends Recipe> recipe) {
+            this.recipe = recipe;
+            return this;
+        }
+
+        /**
+         * @param methodPattern A method pattern with an exact declaring type, see {@link JodaMethodIndex}.
+         * @param rule          The rewrite of the calls matching the pattern.
+         */
+        Builder rule(String methodPattern, JodaRewriteRule rule) {
+            if (recipe == null) {
+                throw new IllegalStateException("The recipe of the rule for " + methodPattern + " is not declared");
+            }
+            MethodMatcher matcher = table.matchers.computeIfAbsent(methodPattern, table.index::matcher);
+            if (table.rules.computeIfAbsent(matcher, k -> new HashMap<>(2)).putIfAbsent(recipe, rule) != null) {
+                throw new IllegalArgumentException("Duplicate rule for " + methodPattern + " in " + recipe.getSimpleName());
+            }
+            return this;
+        }
+
+        JodaRuleTable build() {
+            return table;
+        }
+    }
+}
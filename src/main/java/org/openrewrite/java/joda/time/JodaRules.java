@@ -0,0 +1,148 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.joda.time;
+
+import static org.openrewrite.java.joda.time.JodaRewriteRule.SELECT;
+
+/**
+ * The rewrites of the Joda-Time recipes that map a call to a template of its select and arguments, without
+ * further analysis. The recipes look up their rules in the {@link #TABLE}, and only handle the calls
+ * they need to inspect more closely themselves.
+ */
+final class JodaRules {
+    static final JodaRuleTable TABLE = JodaRuleTable.builder()
+            .recipe(JodaDateTimeToJavaTime.class)
+            // Constructors
+            .rule("org.joda.time.DateTime <constructor>()", JodaRewriteRule.of("ZonedDateTime.now()", "java.time.ZonedDateTime"))
+            .rule("org.joda.time.DateTime <constructor>(org.joda.time.DateTimeZone)", JodaRewriteRule.of("ZonedDateTime.now(#{any(java.time.ZoneOffset)})", "java.time.ZonedDateTime")
+                    .slots(0))
+            .rule("org.joda.time.DateTime <constructor>(long)", JodaRewriteRule.of("ZonedDateTime.ofInstant(Instant.ofEpochMilli(#{any(long)}), ZoneId.systemDefault())", "java.time.ZonedDateTime", "java.time.Instant", "java.time.ZoneId")
+                    .slots(0))
+            .rule("org.joda.time.DateTime <constructor>(long, org.joda.time.DateTimeZone)", JodaRewriteRule.of("ZonedDateTime.ofInstant(Instant.ofEpochMilli(#{any(long)}), #{any(java.time.ZoneId)})", "java.time.ZonedDateTime", "java.time.Instant", "java.time.ZoneId")
+                    .slots(0, 1))
+            .rule("org.joda.time.DateTime <constructor>(int, int, int, int, int)", JodaRewriteRule.of("ZonedDateTime.of(#{any(int)}, #{any(int)}, #{any(int)}, #{any(int)}, #{any(int)}, 0, 0, ZoneId.systemDefault())", "java.time.ZonedDateTime", "java.time.ZoneId")
+                    .slots(0, 1, 2, 3, 4))
+            .rule("org.joda.time.DateTime <constructor>(int, int, int, int, int, org.joda.time.DateTimeZone)", JodaRewriteRule.of("ZonedDateTime.of(#{any(int)}, #{any(int)}, #{any(int)}, #{any(int)}, #{any(int)}, 0, 0, #{any(java.time.ZoneId)})", "java.time.ZonedDateTime", "java.time.ZoneId")
+                    .slots(0, 1, 2, 3, 4, 5))
+            .rule("org.joda.time.DateTime <constructor>(int, int, int, int, int, int)", JodaRewriteRule.of("ZonedDateTime.of(#{any(int)}, #{any(int)}, #{any(int)}, #{any(int)}, #{any(int)}, #{any(int)}, 0, ZoneId.systemDefault())", "java.time.ZonedDateTime", "java.time.ZoneId")
+                    .slots(0, 1, 2, 3, 4, 5))
+            .rule("org.joda.time.DateTime <constructor>(int, int, int, int, int, int, org.joda.time.DateTimeZone)", JodaRewriteRule.of("ZonedDateTime.of(#{any(int)}, #{any(int)}, #{any(int)}, #{any(int)}, #{any(int)}, #{any(int)}, 0, #{any(java.time.ZoneId)})", "java.time.ZonedDateTime", "java.time.ZoneId")
+                    .slots(0, 1, 2, 3, 4, 5, 6))
+            .rule("org.joda.time.DateTime <constructor>(int, int, int, int, int, int, int)", JodaRewriteRule.of("ZonedDateTime.of(#{any(int)}, #{any(int)}, #{any(int)}, #{any(int)}, #{any(int)}, #{any(int)}, #{any(int)} * 1_000_000, ZoneId.systemDefault())", "java.time.ZonedDateTime", "java.time.ZoneId")
+                    .slots(0, 1, 2, 3, 4, 5, 6))
+            .rule("org.joda.time.DateTime <constructor>(int, int, int, int, int, int, int, org.joda.time.DateTimeZone)", JodaRewriteRule.of("ZonedDateTime.of(#{any(int)}, #{any(int)}, #{any(int)}, #{any(int)}, #{any(int)}, #{any(int)}, #{any(int)} * 1_000_000, #{any(java.time.ZoneId)})", "java.time.ZonedDateTime")
+                    .slots(0, 1, 2, 3, 4, 5, 6, 7))
+
+            // Static factories
+            .rule("org.joda.time.DateTime now()", JodaRewriteRule.of("ZonedDateTime.now()", "java.time.ZonedDateTime"))
+            .rule("org.joda.time.DateTime now(org.joda.time.DateTimeZone)", JodaRewriteRule.of("ZonedDateTime.now(#{any(java.time.ZoneOffset)})", "java.time.ZonedDateTime")
+                    .slots(0))
+            .rule("org.joda.time.DateTime parse(String)", JodaRewriteRule.of("ZonedDateTime.parse(#{any(String)})", "java.time.ZonedDateTime")
+                    .slots(0))
+            .rule("org.joda.time.DateTime parse(String, org.joda.time.format.DateTimeFormatter)", JodaRewriteRule.of("ZonedDateTime.parse(#{any(String)}, #{any(java.time.format.DateTimeFormatter)})", "java.time.ZonedDateTime")
+                    .slots(0, 1))
+
+            // Identity removal
+            .rule("org.joda.time.DateTime toDateTime()", JodaRewriteRule.of("#{any(java.time.ZonedDateTime)}")
+                    .slots(SELECT))
+            .rule("org.joda.time.DateTime toDateTime(org.joda.time.DateTimeZone)", JodaRewriteRule.of("#{any(java.time.ZonedDateTime)}.withZoneSameInstant(#{any(java.time.ZoneId)})")
+                    .slots(SELECT, 0))
+            .rule("org.joda.time.DateTime toDateMidnight()", JodaRewriteRule.of("#{any(java.time.ZonedDateTime)}.toLocalDate().atStartOfDay(ZoneId.systemDefault())", "java.time.ZoneId")
+                    .slots(SELECT))
+
+            // Arg reordering: withMillis(arg) -> ZonedDateTime.ofInstant(Instant.ofEpochMilli(arg), select.getZone())
+            .rule("org.joda.time.DateTime withMillis(long)", JodaRewriteRule.of("ZonedDateTime.ofInstant(Instant.ofEpochMilli(#{any(long)}), #{any(java.time.ZonedDateTime)}.getZone())", "java.time.ZonedDateTime", "java.time.Instant")
+                    .slots(0, SELECT))
+
+            // Chain expansion
+            .rule("org.joda.time.DateTime withDate(int, int, int)", JodaRewriteRule.of("#{any(java.time.ZonedDateTime)}.withYear(#{any(int)}).withMonth(#{any(int)}).withDayOfMonth(#{any(int)})")
+                    .slots(SELECT, 0, 1, 2))
+            .rule("org.joda.time.DateTime withDate(org.joda.time.LocalDate)", JodaRewriteRule.of("#{any(java.time.ZonedDateTime)}.with(#{any(java.time.temporal.TemporalAdjuster)})", "java.time.temporal.TemporalAdjuster")
+                    .slots(SELECT, 0))
+            .rule("org.joda.time.DateTime withTime(int, int, int, int)", JodaRewriteRule.of("#{any(java.time.ZonedDateTime)}.withHour(#{any(int)}).withMinute(#{any(int)}).withSecond(#{any(int)}).withNano(#{any(int)} * 1_000_000)")
+                    .slots(SELECT, 0, 1, 2, 3))
+            .rule("org.joda.time.DateTime withTime(org.joda.time.LocalTime)", JodaRewriteRule.of("#{any(java.time.ZonedDateTime)}.with(#{any(java.time.temporal.TemporalAdjuster)})", "java.time.temporal.TemporalAdjuster")
+                    .slots(SELECT, 0))
+            .rule("org.joda.time.DateTime withTimeAtStartOfDay()", JodaRewriteRule.of("#{any(java.time.ZonedDateTime)}.toLocalDate().atStartOfDay(#{any(java.time.ZonedDateTime)}.getZone())")
+                    .slots(SELECT, SELECT))
+
+            // Duration-related
+            .rule("org.joda.time.DateTime withDurationAdded(long, int)", JodaRewriteRule.of("#{any(java.time.ZonedDateTime)}.plus(Duration.ofMillis(#{any(long)}).multipliedBy(#{any(int)}))", "java.time.Duration")
+                    .slots(SELECT, 0, 1))
+            .rule("org.joda.time.DateTime plus(long)", JodaRewriteRule.of("#{any(java.time.ZonedDateTime)}.plus(Duration.ofMillis(#{any(int)}))", "java.time.Duration")
+                    .slots(SELECT, 0))
+            .rule("org.joda.time.DateTime plusMillis(int)", JodaRewriteRule.of("#{any(java.time.ZonedDateTime)}.plus(Duration.ofMillis(#{any(int)}))", "java.time.Duration")
+                    .slots(SELECT, 0))
+            .rule("org.joda.time.DateTime minus(long)", JodaRewriteRule.of("#{any(java.time.ZonedDateTime)}.minus(Duration.ofMillis(#{any(int)}))", "java.time.Duration")
+                    .slots(SELECT, 0))
+            .rule("org.joda.time.DateTime minusMillis(int)", JodaRewriteRule.of("#{any(java.time.ZonedDateTime)}.minus(Duration.ofMillis(#{any(int)}))", "java.time.Duration")
+                    .slots(SELECT, 0))
+
+            // ChronoField/IsoFields setters
+            .rule("org.joda.time.DateTime withWeekyear(int)", JodaRewriteRule.of("#{any(java.time.ZonedDateTime)}.with(IsoFields.WEEK_BASED_YEAR, #{any(int)})", "java.time.temporal.IsoFields")
+                    .slots(SELECT, 0))
+            .rule("org.joda.time.DateTime withWeekOfWeekyear(int)", JodaRewriteRule.of("#{any(java.time.ZonedDateTime)}.with(ChronoField.ALIGNED_WEEK_OF_YEAR, #{any(int)})", "java.time.temporal.ChronoField")
+                    .slots(SELECT, 0))
+            .rule("org.joda.time.DateTime withDayOfWeek(int)", JodaRewriteRule.of("#{any(java.time.ZonedDateTime)}.with(ChronoField.DAY_OF_WEEK, #{any(int)})", "java.time.temporal.ChronoField")
+                    .slots(SELECT, 0))
+            .rule("org.joda.time.DateTime withMillisOfSecond(int)", JodaRewriteRule.of("#{any(java.time.ZonedDateTime)}.withNano(#{any(int)} * 1_000_000)")
+                    .slots(SELECT, 0))
+            .rule("org.joda.time.DateTime withMillisOfDay(int)", JodaRewriteRule.of("#{any(java.time.ZonedDateTime)}.with(ChronoField.MILLI_OF_DAY, #{any(int)})", "java.time.temporal.ChronoField")
+                    .slots(SELECT, 0))
+
+            // AbstractDateTime getters that need structural changes
+            .rule("org.joda.time.base.AbstractDateTime getDayOfWeek()", JodaRewriteRule.of("#{any(java.time.ZonedDateTime)}.getDayOfWeek().getValue()")
+                    .slots(SELECT))
+            .rule("org.joda.time.base.AbstractDateTime getMillisOfSecond()", JodaRewriteRule.of("#{any(java.time.ZonedDateTime)}.get(ChronoField.MILLI_OF_SECOND)", "java.time.temporal.ChronoField")
+                    .slots(SELECT))
+            .rule("org.joda.time.base.AbstractDateTime getMinuteOfDay()", JodaRewriteRule.of("#{any(java.time.ZonedDateTime)}.get(ChronoField.MINUTE_OF_DAY)", "java.time.temporal.ChronoField")
+                    .slots(SELECT))
+            .rule("org.joda.time.base.AbstractDateTime getSecondOfDay()", JodaRewriteRule.of("#{any(java.time.ZonedDateTime)}.get(ChronoField.SECOND_OF_DAY)", "java.time.temporal.ChronoField")
+                    .slots(SELECT))
+            .rule("org.joda.time.base.AbstractDateTime getWeekOfWeekyear()", JodaRewriteRule.of("#{any(java.time.ZonedDateTime)}.get(ChronoField.ALIGNED_WEEK_OF_YEAR)", "java.time.temporal.ChronoField")
+                    .slots(SELECT))
+
+            .recipe(JodaFormatterToJavaTime.class)
+            // DateTimeFormatter methods (arg reordering: formatter.method(arg) → Type.method(arg, formatter))
+            .rule("org.joda.time.format.DateTimeFormatter parseDateTime(java.lang.String)", JodaRewriteRule.of("ZonedDateTime.parse(#{any(java.lang.String)}, #{any(java.time.format.DateTimeFormatter)})", "java.time.ZonedDateTime")
+                    .slots(0, SELECT))
+            .rule("org.joda.time.format.DateTimeFormatter parseMillis(java.lang.String)", JodaRewriteRule.of("ZonedDateTime.parse(#{any(java.lang.String)}, #{any(java.time.format.DateTimeFormatter)}).toInstant().toEpochMilli()", "java.time.ZonedDateTime")
+                    .slots(0, SELECT))
+            .rule("org.joda.time.format.DateTimeFormatter print(long)", JodaRewriteRule.of("ZonedDateTime.ofInstant(Instant.ofEpochMilli(#{any(long)}), ZoneId.systemDefault()).format(#{any(java.time.format.DateTimeFormatter)})", "java.time.ZonedDateTime", "java.time.Instant", "java.time.ZoneId")
+                    .slots(0, SELECT))
+            .rule("org.joda.time.format.DateTimeFormatter print(org.joda.time.ReadableInstant)", JodaRewriteRule.of("#{any(java.time.ZonedDateTime)}.format(#{any(java.time.format.DateTimeFormatter)})")
+                    .slots(0, SELECT))
+            .rule("org.joda.time.format.DateTimeFormatter withZoneUTC()", JodaRewriteRule.of("#{any(java.time.format.DateTimeFormatter)}.withZone(ZoneOffset.UTC)", "java.time.ZoneOffset")
+                    .slots(SELECT))
+
+            // DateTimeFormat localized methods
+            .rule("org.joda.time.format.DateTimeFormat shortDate()", JodaRewriteRule.of("DateTimeFormatter.ofLocalizedDate(FormatStyle.SHORT)", "java.time.format.DateTimeFormatter", "java.time.format.FormatStyle"))
+            .rule("org.joda.time.format.DateTimeFormat mediumDate()", JodaRewriteRule.of("DateTimeFormatter.ofLocalizedDate(FormatStyle.MEDIUM)", "java.time.format.DateTimeFormatter", "java.time.format.FormatStyle"))
+            .rule("org.joda.time.format.DateTimeFormat longDate()", JodaRewriteRule.of("DateTimeFormatter.ofLocalizedDate(FormatStyle.LONG)", "java.time.format.DateTimeFormatter", "java.time.format.FormatStyle"))
+            .rule("org.joda.time.format.DateTimeFormat fullDate()", JodaRewriteRule.of("DateTimeFormatter.ofLocalizedDate(FormatStyle.FULL)", "java.time.format.DateTimeFormatter", "java.time.format.FormatStyle"))
+            .rule("org.joda.time.format.DateTimeFormat shortTime()", JodaRewriteRule.of("DateTimeFormatter.ofLocalizedTime(FormatStyle.SHORT)", "java.time.format.DateTimeFormatter", "java.time.format.FormatStyle"))
+            .rule("org.joda.time.format.DateTimeFormat mediumTime()", JodaRewriteRule.of("DateTimeFormatter.ofLocalizedTime(FormatStyle.MEDIUM)", "java.time.format.DateTimeFormatter", "java.time.format.FormatStyle"))
+            .rule("org.joda.time.format.DateTimeFormat longTime()", JodaRewriteRule.of("DateTimeFormatter.ofLocalizedTime(FormatStyle.LONG)", "java.time.format.DateTimeFormatter", "java.time.format.FormatStyle"))
+            .rule("org.joda.time.format.DateTimeFormat fullTime()", JodaRewriteRule.of("DateTimeFormatter.ofLocalizedTime(FormatStyle.FULL)", "java.time.format.DateTimeFormatter", "java.time.format.FormatStyle"))
+            .rule("org.joda.time.format.DateTimeFormat shortDateTime()", JodaRewriteRule.of("DateTimeFormatter.ofLocalizedDateTime(FormatStyle.SHORT, FormatStyle.SHORT)", "java.time.format.DateTimeFormatter", "java.time.format.FormatStyle"))
+            .rule("org.joda.time.format.DateTimeFormat mediumDateTime()", JodaRewriteRule.of("DateTimeFormatter.ofLocalizedDateTime(FormatStyle.MEDIUM, FormatStyle.MEDIUM)", "java.time.format.DateTimeFormatter", "java.time.format.FormatStyle"))
+            .rule("org.joda.time.format.DateTimeFormat longDateTime()", JodaRewriteRule.of("DateTimeFormatter.ofLocalizedDateTime(FormatStyle.LONG, FormatStyle.LONG)", "java.time.format.DateTimeFormatter", "java.time.format.FormatStyle"))
+            .rule("org.joda.time.format.DateTimeFormat fullDateTime()", JodaRewriteRule.of("DateTimeFormatter.ofLocalizedDateTime(FormatStyle.FULL, FormatStyle.FULL)", "java.time.format.DateTimeFormatter", "java.time.format.FormatStyle"))
+            .build();
+
+    private JodaRules() {
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.joda.time;
+
+import org.openrewrite.Cursor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaCoordinates;
+
+/**
+ * A {@link JavaTemplate} of the {@link JodaTemplates} registry, which reports every application to the metrics of
+ * the recipe being measured, however long the caller keeps the template.
+ */
+final class JodaTemplate {
+    private final JavaTemplate template;
+
+    JodaTemplate(JavaTemplate template) {
+        this.template = template;
+    }
+
+    <J2 extends J> J2 apply(Cursor scope, JavaCoordinates coordinates, Object... parameters) {
+        J2 applied = template.apply(scope, coordinates, parameters);
+        JodaRecipeMetrics.templateApplied();
+        return applied;
+    }
+}
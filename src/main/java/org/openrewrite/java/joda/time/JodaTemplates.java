@@ -0,0 +1,102 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.joda.time;
+
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.JavaTemplate;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JVM-wide registry of the {@link JavaTemplate}s used by the Joda-Time recipes, keyed by template
+ * source, imports and parser classpath. Templates are built on first use and shared by every recipe
+ * instance afterwards, so a migration only pays for building each distinct template once.
+ */
+public final class JodaTemplates {
+    private static final Map<String, JodaTemplate> TEMPLATES = new ConcurrentHashMap<>();
+    private static final AtomicLong HITS = new AtomicLong();
+    private static final AtomicLong MISSES = new AtomicLong();
+
+    private JodaTemplates() {
+    }
+
+    /**
+     * @return A template that only references JDK types.
+     */
+    static JodaTemplate get(String code, String... imports) {
+        return lookup(false, code, imports);
+    }
+
+    /**
+     * @return A template whose parser classpath includes ThreeTen-Extra, for templates referencing
+     * {@code org.threeten.extra} types.
+     */
+    static JodaTemplate getWithThreeTenExtra(String code, String... imports) {
+        return lookup(true, code, imports);
+    }
+
+    /**
+     * @return The number of template lookups served from the registry since the JVM started.
+     */
+    public static long getHits() {
+        return HITS.get();
+    }
+
+    /**
+     * @return The number of templates built since the JVM started.
+     */
+    public static long getMisses() {
+        return MISSES.get();
+    }
+
+    private static JodaTemplate lookup(boolean threeTenExtra, String code, String... imports) {
+        String key = key(threeTenExtra, code, imports);
+        JodaTemplate template = TEMPLATES.get(key);
+        if (template != null) {
+            HITS.incrementAndGet();
+            return template;
+        }
+        JavaTemplate.Builder builder = JavaTemplate.builder(code).imports(imports);
+        if (threeTenExtra) {
+            builder.javaParser(JavaParser.fromJavaVersion().classpath(BundledClasspath.threeTenExtra()));
+        }
+        template = new JodaTemplate(builder.build());
+        JodaTemplate existing = TEMPLATES.putIfAbsent(key, template);
+        if (existing != null) {
+            // another thread built the same template concurrently
+            HITS.incrementAndGet();
+            return existing;
+        }
+        MISSES.incrementAndGet();
+        return template;
+    }
+
+    private static String key(boolean threeTenExtra, String code, String... imports) {
+        if (imports.length == 0 && !threeTenExtra) {
+            return code;
+        }
+        StringBuilder key = new StringBuilder(code.length() + 64).append(code);
+        for (String anImport : imports) {
+            key.append('\u0000').append(anImport);
+        }
+        if (threeTenExtra) {
+            key.append("\u0000threeten-extra-1");
+        }
+        return key.toString();
+    }
+}
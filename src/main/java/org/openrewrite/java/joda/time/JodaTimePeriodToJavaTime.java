@@ -21,10 +21,10 @@ import org.openrewrite.ExecutionContext;
 import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
-import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.JavaVisitor;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.joda.time.table.JodaRecipePerformance;
+import org.openrewrite.java.joda.time.table.JodaSkippedSourceFiles;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
 import org.openrewrite.java.tree.TypeUtils;
@@ -39,31 +39,36 @@ public class JodaTimePeriodToJavaTime extends Recipe {
 
     String description = "Migrates `org.joda.time.Days`, `Hours`, `Minutes`, and `Seconds` to `java.time.temporal.ChronoUnit` and `java.time.Duration`.";
 
+    transient JodaRecipePerformance performance = new JodaRecipePerformance(this);
+    transient JodaSkippedSourceFiles skipped = new JodaSkippedSourceFiles(this);
+
+    static final JodaMethodIndex METHODS = new JodaMethodIndex();
+
     // Days
-    private static final MethodMatcher DAYS_BETWEEN = new MethodMatcher("org.joda.time.Days daysBetween(org.joda.time.ReadableInstant, org.joda.time.ReadableInstant)", true);
-    private static final MethodMatcher DAYS_BETWEEN_PARTIAL = new MethodMatcher("org.joda.time.Days daysBetween(org.joda.time.ReadablePartial, org.joda.time.ReadablePartial)", true);
-    private static final MethodMatcher DAYS_IN = new MethodMatcher("org.joda.time.Days daysIn(org.joda.time.ReadableInterval)", true);
-    private static final MethodMatcher DAYS_DAYS = new MethodMatcher("org.joda.time.Days days(int)");
-    private static final MethodMatcher DAYS_GET_DAYS = new MethodMatcher("org.joda.time.Days getDays()");
-    private static final MethodMatcher DAYS_TO_STANDARD_DURATION = new MethodMatcher("org.joda.time.Days toStandardDuration()");
+    private static final MethodMatcher DAYS_BETWEEN = METHODS.matcher("org.joda.time.Days daysBetween(org.joda.time.ReadableInstant, org.joda.time.ReadableInstant)");
+    private static final MethodMatcher DAYS_BETWEEN_PARTIAL = METHODS.matcher("org.joda.time.Days daysBetween(org.joda.time.ReadablePartial, org.joda.time.ReadablePartial)");
+    private static final MethodMatcher DAYS_IN = METHODS.matcher("org.joda.time.Days daysIn(org.joda.time.ReadableInterval)");
+    private static final MethodMatcher DAYS_DAYS = METHODS.matcher("org.joda.time.Days days(int)");
+    private static final MethodMatcher DAYS_GET_DAYS = METHODS.matcher("org.joda.time.Days getDays()");
+    private static final MethodMatcher DAYS_TO_STANDARD_DURATION = METHODS.matcher("org.joda.time.Days toStandardDuration()");
     // Hours
-    private static final MethodMatcher HOURS_BETWEEN = new MethodMatcher("org.joda.time.Hours hoursBetween(org.joda.time.ReadableInstant, org.joda.time.ReadableInstant)", true);
-    private static final MethodMatcher HOURS_BETWEEN_PARTIAL = new MethodMatcher("org.joda.time.Hours hoursBetween(org.joda.time.ReadablePartial, org.joda.time.ReadablePartial)", true);
-    private static final MethodMatcher HOURS_HOURS = new MethodMatcher("org.joda.time.Hours hours(int)");
-    private static final MethodMatcher HOURS_GET_HOURS = new MethodMatcher("org.joda.time.Hours getHours()");
-    private static final MethodMatcher HOURS_TO_STANDARD_DURATION = new MethodMatcher("org.joda.time.Hours toStandardDuration()");
+    private static final MethodMatcher HOURS_BETWEEN = METHODS.matcher("org.joda.time.Hours hoursBetween(org.joda.time.ReadableInstant, org.joda.time.ReadableInstant)");
+    private static final MethodMatcher HOURS_BETWEEN_PARTIAL = METHODS.matcher("org.joda.time.Hours hoursBetween(org.joda.time.ReadablePartial, org.joda.time.ReadablePartial)");
+    private static final MethodMatcher HOURS_HOURS = METHODS.matcher("org.joda.time.Hours hours(int)");
+    private static final MethodMatcher HOURS_GET_HOURS = METHODS.matcher("org.joda.time.Hours getHours()");
+    private static final MethodMatcher HOURS_TO_STANDARD_DURATION = METHODS.matcher("org.joda.time.Hours toStandardDuration()");
     // Minutes
-    private static final MethodMatcher MINUTES_BETWEEN = new MethodMatcher("org.joda.time.Minutes minutesBetween(org.joda.time.ReadableInstant, org.joda.time.ReadableInstant)", true);
-    private static final MethodMatcher MINUTES_BETWEEN_PARTIAL = new MethodMatcher("org.joda.time.Minutes minutesBetween(org.joda.time.ReadablePartial, org.joda.time.ReadablePartial)", true);
-    private static final MethodMatcher MINUTES_MINUTES = new MethodMatcher("org.joda.time.Minutes minutes(int)");
-    private static final MethodMatcher MINUTES_GET_MINUTES = new MethodMatcher("org.joda.time.Minutes getMinutes()");
-    private static final MethodMatcher MINUTES_TO_STANDARD_DURATION = new MethodMatcher("org.joda.time.Minutes toStandardDuration()");
+    private static final MethodMatcher MINUTES_BETWEEN = METHODS.matcher("org.joda.time.Minutes minutesBetween(org.joda.time.ReadableInstant, org.joda.time.ReadableInstant)");
+    private static final MethodMatcher MINUTES_BETWEEN_PARTIAL = METHODS.matcher("org.joda.time.Minutes minutesBetween(org.joda.time.ReadablePartial, org.joda.time.ReadablePartial)");
+    private static final MethodMatcher MINUTES_MINUTES = METHODS.matcher("org.joda.time.Minutes minutes(int)");
+    private static final MethodMatcher MINUTES_GET_MINUTES = METHODS.matcher("org.joda.time.Minutes getMinutes()");
+    private static final MethodMatcher MINUTES_TO_STANDARD_DURATION = METHODS.matcher("org.joda.time.Minutes toStandardDuration()");
     // Seconds
-    private static final MethodMatcher SECONDS_BETWEEN = new MethodMatcher("org.joda.time.Seconds secondsBetween(org.joda.time.ReadableInstant, org.joda.time.ReadableInstant)", true);
-    private static final MethodMatcher SECONDS_BETWEEN_PARTIAL = new MethodMatcher("org.joda.time.Seconds secondsBetween(org.joda.time.ReadablePartial, org.joda.time.ReadablePartial)", true);
-    private static final MethodMatcher SECONDS_SECONDS = new MethodMatcher("org.joda.time.Seconds seconds(int)");
-    private static final MethodMatcher SECONDS_GET_SECONDS = new MethodMatcher("org.joda.time.Seconds getSeconds()");
-    private static final MethodMatcher SECONDS_TO_STANDARD_DURATION = new MethodMatcher("org.joda.time.Seconds toStandardDuration()");
+    private static final MethodMatcher SECONDS_BETWEEN = METHODS.matcher("org.joda.time.Seconds secondsBetween(org.joda.time.ReadableInstant, org.joda.time.ReadableInstant)");
+    private static final MethodMatcher SECONDS_BETWEEN_PARTIAL = METHODS.matcher("org.joda.time.Seconds secondsBetween(org.joda.time.ReadablePartial, org.joda.time.ReadablePartial)");
+    private static final MethodMatcher SECONDS_SECONDS = METHODS.matcher("org.joda.time.Seconds seconds(int)");
+    private static final MethodMatcher SECONDS_GET_SECONDS = METHODS.matcher("org.joda.time.Seconds getSeconds()");
+    private static final MethodMatcher SECONDS_TO_STANDARD_DURATION = METHODS.matcher("org.joda.time.Seconds toStandardDuration()");
 
     private static final List<String> JODA_PERIOD_TYPES = Arrays.asList(
             "org.joda.time.Days", "org.joda.time.Hours",
@@ -72,17 +77,15 @@ public class JodaTimePeriodToJavaTime extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(
-                Preconditions.or(
-                        new UsesType<>("org.joda.time.Days", true),
-                        new UsesType<>("org.joda.time.Hours", true),
-                        new UsesType<>("org.joda.time.Minutes", true),
-                        new UsesType<>("org.joda.time.Seconds", true)
-                ),
+        return JodaRecipeMetrics.measure(this, performance, skipped, Preconditions.check(
+                new UsesJodaType<>(UsesJodaType.DAYS | UsesJodaType.HOURS | UsesJodaType.MINUTES | UsesJodaType.SECONDS),
                 new JavaVisitor<ExecutionContext>() {
                     @Override
                     public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
                         J.MethodInvocation m = (J.MethodInvocation) super.visitMethodInvocation(method, ctx);
+                        if (METHODS.find(method.getMethodType()) == null) {
+                            return m;
+                        }
 
                         // Handle chained patterns like Days.daysBetween(a, b).getDays()
                         if (isGetValueCall(m) && m.getSelect() instanceof J.MethodInvocation) {
@@ -97,8 +100,7 @@ public class JodaTimePeriodToJavaTime extends Recipe {
                             if (isBetweenCall(inner)) {
                                 maybeAddImport("java.time.temporal.ChronoUnit");
                                 removeJodaPeriodImports();
-                                return JavaTemplate.builder("(int) ChronoUnit." + unit + ".between(#{any()}, #{any()})")
-                                        .imports("java.time.temporal.ChronoUnit").build()
+                                return JodaTemplates.get("(int) ChronoUnit." + unit + ".between(#{any()}, #{any()})", "java.time.temporal.ChronoUnit")
                                         .apply(getCursor(), m.getCoordinates().replace(),
                                                 inner.getArguments().get(0), inner.getArguments().get(1));
                             }
@@ -106,8 +108,7 @@ public class JodaTimePeriodToJavaTime extends Recipe {
                             if (DAYS_IN.matches(inner)) {
                                 maybeAddImport("java.time.temporal.ChronoUnit");
                                 removeJodaPeriodImports();
-                                return JavaTemplate.builder("(int) ChronoUnit.DAYS.between(#{any()}.getStart(), #{any()}.getEnd())")
-                                        .imports("java.time.temporal.ChronoUnit").build()
+                                return JodaTemplates.get("(int) ChronoUnit.DAYS.between(#{any()}.getStart(), #{any()}.getEnd())", "java.time.temporal.ChronoUnit")
                                         .apply(getCursor(), m.getCoordinates().replace(),
                                                 inner.getArguments().get(0), inner.getArguments().get(0));
                             }
@@ -126,8 +127,7 @@ public class JodaTimePeriodToJavaTime extends Recipe {
                             if (isFactoryCall(inner)) {
                                 maybeAddImport("java.time.Duration");
                                 removeJodaPeriodImports();
-                                return JavaTemplate.builder("Duration." + durationMethod + "(#{any(int)})")
-                                        .imports("java.time.Duration").build()
+                                return JodaTemplates.get("Duration." + durationMethod + "(#{any(int)})", "java.time.Duration")
                                         .apply(getCursor(), m.getCoordinates().replace(), inner.getArguments().get(0));
                             }
                             // Days.daysBetween(a, b).toStandardDuration() -> Duration.ofDays(ChronoUnit.DAYS.between(a, b))
@@ -135,8 +135,7 @@ public class JodaTimePeriodToJavaTime extends Recipe {
                                 maybeAddImport("java.time.Duration");
                                 maybeAddImport("java.time.temporal.ChronoUnit");
                                 removeJodaPeriodImports();
-                                return JavaTemplate.builder("Duration." + durationMethod + "(ChronoUnit." + unit + ".between(#{any()}, #{any()}))")
-                                        .imports("java.time.Duration", "java.time.temporal.ChronoUnit").build()
+                                return JodaTemplates.get("Duration." + durationMethod + "(ChronoUnit." + unit + ".between(#{any()}, #{any()}))", "java.time.Duration", "java.time.temporal.ChronoUnit")
                                         .apply(getCursor(), m.getCoordinates().replace(),
                                                 inner.getArguments().get(0), inner.getArguments().get(1));
                             }
@@ -157,8 +156,7 @@ public class JodaTimePeriodToJavaTime extends Recipe {
                             String durationMethod = getDurationOfMethodFromUnit(unit);
                             maybeAddImport("java.time.Duration");
                             removeJodaPeriodImports();
-                            return JavaTemplate.builder("Duration." + durationMethod + "(#{any(int)})")
-                                    .imports("java.time.Duration").build()
+                            return JodaTemplates.get("Duration." + durationMethod + "(#{any(int)})", "java.time.Duration")
                                     .apply(getCursor(), m.getCoordinates().replace(), m.getArguments().get(0));
                         }
 
@@ -231,6 +229,6 @@ public class JodaTimePeriodToJavaTime extends Recipe {
                         }
                     }
                 }
-        );
+        ));
     }
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.joda.time;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.Tree;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+
+/**
+ * Folds the conversions of literal milliseconds to nanoseconds the migration introduces, as in
+ * {@code LocalTime.of(10, 30, 45, 500 * 1_000_000)}, into a nanosecond literal, {@code 500_000_000}.
+ * Conversions of other expressions are left to the compiler and JIT.
+ */
+final class MillisToNanos {
+    private static final long NANOS_PER_MILLI = 1_000_000;
+
+    private MillisToNanos() {
+    }
+
+    /**
+     * @param rewritten The expression that replaces the tree at the cursor.
+     * @param cursor    The cursor of the tree that is replaced.
+     * @return The rewritten expression, with {@code millis * 1_000_000} folded where {@code millis} is an int literal.
+     */
+    static J fold(J rewritten, Cursor cursor) {
+        return new JavaVisitor<Integer>() {
+            @Override
+            public J visitBinary(J.Binary binary, Integer p) {
+                J.Binary b = (J.Binary) super.visitBinary(binary, p);
+                J.Literal nanos = nanos(b);
+                return nanos == null ? b : nanos;
+            }
+        }.visitNonNull(rewritten, 0, cursor.getParentOrThrow());
+    }
+
+    private static J.@Nullable Literal nanos(J.Binary binary) {
+        if (binary.getOperator() != J.Binary.Type.Multiplication ||
+            !(binary.getLeft() instanceof J.Literal) || !(binary.getRight() instanceof J.Literal)) {
+            return null;
+        }
+        Object millis = ((J.Literal) binary.getLeft()).getValue();
+        Object factor = ((J.Literal) binary.getRight()).getValue();
+        if (!(millis instanceof Integer) || !(factor instanceof Number) || ((Number) factor).longValue() != NANOS_PER_MILLI) {
+            return null;
+        }
+        long nanos = (Integer) millis * NANOS_PER_MILLI;
+        if (factor instanceof Long) {
+            return literal(binary, nanos, digits(nanos) + "L", JavaType.Primitive.Long);
+        }
+        if (nanos > Integer.MAX_VALUE) {
+            // the int multiplication overflows, which is for the compiler to report
+            return null;
+        }
+        return literal(binary, (int) nanos, digits(nanos), JavaType.Primitive.Int);
+    }
+
+    private static J.Literal literal(J.Binary binary, Object value, String valueSource, JavaType.Primitive type) {
+        return new J.Literal(Tree.randomId(), binary.getPrefix(), binary.getMarkers(), value, valueSource, null, type);
+    }
+
+    /**
+     * @return The digits of the given number, grouped by thousands as in {@code 1_000_000}.
+     */
+    private static String digits(long n) {
+        String digits = Long.toString(n);
+        StringBuilder grouped = new StringBuilder(digits.length() + digits.length() / 3);
+        for (int i = 0; i < digits.length(); i++) {
+            if (i > 0 && (digits.length() - i) % 3 == 0) {
+                grouped.append('_');
+            }
+            grouped.append(digits.charAt(i));
+        }
+        return grouped.toString();
+    }
+}
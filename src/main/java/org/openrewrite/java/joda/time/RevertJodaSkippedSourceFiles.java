@@ -0,0 +1,69 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.joda.time;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.joda.time.table.JodaSkippedSourceFiles;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class RevertJodaSkippedSourceFiles extends ScanningRecipe<Map<Path, SourceFile>> {
+    String displayName = "Revert source files skipped by the Joda-Time recipes";
+
+    String description = "Restores the source files that a Joda-Time recipe gave up on because they exceeded the per-file " +
+                         "time budget, undoing the changes of the other steps of the migration, so that they can be migrated by hand.";
+
+    @Override
+    public Map<Path, SourceFile> getInitialValue(ExecutionContext ctx) {
+        return new HashMap<>();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Map<Path, SourceFile> originals) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                // without a budget no source file is skipped, so there is nothing to keep
+                if (tree instanceof SourceFile && JodaSkippedSourceFiles.getFileTimeBudget(ctx) != null) {
+                    originals.put(((SourceFile) tree).getSourcePath(), (SourceFile) tree);
+                }
+                return tree;
+            }
+        };
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Map<Path, SourceFile> originals) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (!(tree instanceof SourceFile)) {
+                    return tree;
+                }
+                Path sourcePath = ((SourceFile) tree).getSourcePath();
+                SourceFile original = originals.get(sourcePath);
+                return original != null && JodaRecipeMetrics.isSkipped(ctx, sourcePath) ? original : tree;
+            }
+        };
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.joda.time;
+
+import org.openrewrite.Cursor;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.tree.J;
+
+/**
+ * Replaces the {@code ZoneId.systemDefault()} calls of a rewritten expression by a {@code private static final}
+ * field of the enclosing class, see {@link HoistedConstants}. The visitors of the recipes using this
+ * must {@link HoistedConstants#declare(J.ClassDeclaration, Cursor) declare} the constants of their classes.
+ * <p>
+ * The cached zone is the default time zone at class initialization, so it does not follow later changes of the
+ * default time zone, e.g. through {@link java.util.TimeZone#setDefault(java.util.TimeZone)}.
+ */
+final class SystemDefaultZone {
+    static final String OPTION_DISPLAY_NAME = "Cache the system default zone";
+    static final String OPTION_DESCRIPTION = "When `true`, the `ZoneId.systemDefault()` calls the migration introduces inside methods are replaced by a " +
+                                             "`private static final java.time.ZoneId` field, so that the default zone is only looked up once per class. " +
+                                             "The cached zone does not follow later changes of the JVM's default time zone.";
+
+    private static final MethodMatcher SYSTEM_DEFAULT = new MethodMatcher("java.time.ZoneId systemDefault()");
+
+    private SystemDefaultZone() {
+    }
+
+    /**
+     * @param enabled   Whether caching is enabled, for the convenience of the recipes with a corresponding option.
+     * @param rewritten The expression that replaces the tree at the cursor.
+     * @param cursor    The cursor of the tree that is replaced.
+     * @return The rewritten expression, with {@code ZoneId.systemDefault()} replaced by a reference to a constant
+     * where the enclosing class can declare one.
+     */
+    static J cache(boolean enabled, J rewritten, Cursor cursor) {
+        if (!enabled) {
+            return rewritten;
+        }
+        Cursor target = HoistedConstants.target(cursor);
+        if (target == null) {
+            return rewritten;
+        }
+        return new JavaVisitor<Integer>() {
+            @Override
+            public J visitMethodInvocation(J.MethodInvocation method, Integer p) {
+                if (SYSTEM_DEFAULT.matches(method)) {
+                    return HoistedConstants.reference(target, "ZoneId.systemDefault()", "SYSTEM_DEFAULT_ZONE",
+                                    "java.time.ZoneId", "ZoneId.systemDefault()")
+                            .withPrefix(method.getPrefix());
+                }
+                return super.visitMethodInvocation(method, p);
+            }
+        }.visitNonNull(rewritten, 0, cursor.getParentOrThrow());
+    }
+}
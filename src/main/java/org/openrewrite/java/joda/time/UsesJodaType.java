@@ -0,0 +1,173 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.joda.time;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Tree;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaSourceFile;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
+import org.openrewrite.marker.SearchResult;
+
+import java.lang.ref.WeakReference;
+
+/**
+ * Precondition shared by the Joda-Time recipes. The Joda-Time types a compilation unit uses are
+ * collected from its type cache in a single scan into a bitset, which is cached for the compilation
+ * unit instance, so every recipe of a migration only tests its own bits against it.
+ * <p>
+ * Like {@code UsesType} with {@code includeImplicit}, types are collected from the types in use, the
+ * declaring, return and parameter types of the methods in use, and the imports.
+ */
+final class UsesJodaType<P> extends JavaIsoVisitor<P> {
+    /**
+     * Any type in {@code org.joda.time} or one of its subpackages.
+     */
+    static final int ANY = 1;
+    static final int DATE_TIME = 1 << 1;
+    static final int DATE_MIDNIGHT = 1 << 2;
+    static final int DATE_TIME_ZONE = 1 << 3;
+    static final int DURATION = 1 << 4;
+    static final int INSTANT = 1 << 5;
+    static final int LOCAL_DATE = 1 << 6;
+    static final int LOCAL_TIME = 1 << 7;
+    static final int DAYS = 1 << 8;
+    static final int HOURS = 1 << 9;
+    static final int MINUTES = 1 << 10;
+    static final int SECONDS = 1 << 11;
+    /**
+     * Types in {@code org.joda.time} whose name contains {@code Interval}, such as {@code ReadableInterval}.
+     */
+    static final int INTERVAL = 1 << 12;
+    /**
+     * Types in {@code org.joda.time.format}.
+     */
+    static final int FORMAT = 1 << 13;
+
+    private static final String JODA_PACKAGE = "org.joda.time.";
+    private static final String FORMAT_PACKAGE = "org.joda.time.format.";
+
+    private static final ThreadLocal<@Nullable Presence> LAST = new ThreadLocal<>();
+
+    private final int types;
+
+    /**
+     * @param types The bits of the types of which at least one must be used.
+     */
+    UsesJodaType(int types) {
+        this.types = types;
+    }
+
+    @Override
+    public J visit(@Nullable Tree tree, P p) {
+        if (tree instanceof JavaSourceFile) {
+            JavaSourceFile cu = (JavaSourceFile) tree;
+            if ((typesPresent(cu) & types) != 0) {
+                return SearchResult.found(cu);
+            }
+        }
+        return (J) tree;
+    }
+
+    static int typesPresent(JavaSourceFile cu) {
+        // recipes of a migration visit the same compilation unit instance one after the other
+        // until one of them changes it, so remembering the last one per thread is enough
+        Presence last = LAST.get();
+        if (last != null && last.sourceFile.get() == cu) {
+            return last.types;
+        }
+        int present = scan(cu);
+        LAST.set(new Presence(cu, present));
+        return present;
+    }
+
+    private static int scan(JavaSourceFile cu) {
+        int present = 0;
+        for (JavaType type : cu.getTypesInUse().getTypesInUse()) {
+            present |= classify(type);
+        }
+        for (JavaType.Method method : cu.getTypesInUse().getUsedMethods()) {
+            present |= classify(method.getDeclaringType()) | classify(method.getReturnType());
+            for (JavaType parameterType : method.getParameterTypes()) {
+                present |= classify(parameterType);
+            }
+        }
+        for (J.Import anImport : cu.getImports()) {
+            present |= classify(anImport.getTypeName());
+        }
+        return present;
+    }
+
+    private static int classify(@Nullable JavaType type) {
+        while (type instanceof JavaType.Array) {
+            type = ((JavaType.Array) type).getElemType();
+        }
+        JavaType.FullyQualified fq = TypeUtils.asFullyQualified(type);
+        return fq == null ? 0 : classify(fq.getFullyQualifiedName());
+    }
+
+    private static int classify(String fqn) {
+        if (!fqn.startsWith(JODA_PACKAGE)) {
+            return 0;
+        }
+        if (fqn.startsWith(FORMAT_PACKAGE)) {
+            return ANY | FORMAT;
+        }
+        String simpleName = fqn.substring(JODA_PACKAGE.length());
+        if (simpleName.indexOf('.') >= 0) {
+            // other subpackages, or nested types
+            return ANY;
+        }
+        switch (simpleName) {
+            case "DateTime":
+                return ANY | DATE_TIME;
+            case "DateMidnight":
+                return ANY | DATE_MIDNIGHT;
+            case "DateTimeZone":
+                return ANY | DATE_TIME_ZONE;
+            case "Duration":
+                return ANY | DURATION;
+            case "Instant":
+                return ANY | INSTANT;
+            case "LocalDate":
+                return ANY | LOCAL_DATE;
+            case "LocalTime":
+                return ANY | LOCAL_TIME;
+            case "Days":
+                return ANY | DAYS;
+            case "Hours":
+                return ANY | HOURS;
+            case "Minutes":
+                return ANY | MINUTES;
+            case "Seconds":
+                return ANY | SECONDS;
+            default:
+                return simpleName.contains("Interval") ? ANY | INTERVAL : ANY;
+        }
+    }
+
+    private static class Presence {
+        final WeakReference<JavaSourceFile> sourceFile;
+        final int types;
+
+        Presence(JavaSourceFile sourceFile, int types) {
+            this.sourceFile = new WeakReference<>(sourceFile);
+            this.types = types;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.joda.time.table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.Recipe;
+
+@JsonIgnoreType
+public class JodaFormatterHotspots extends DataTable<JodaFormatterHotspots.Row> {
+
+    public JodaFormatterHotspots(Recipe recipe) {
+        super(recipe,
+                "Joda-Time formatter hotspots",
+                "Joda-Time formatters that are built inside loops, lambdas or methods that are typically invoked many times.");
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Source path",
+                description = "The path of the source file with the formatter.")
+        String sourcePath;
+
+        @Column(displayName = "Enclosing method",
+                description = "The class and method the formatter is built in, as `Class#method`.")
+        String enclosingMethod;
+
+        @Column(displayName = "Factory",
+                description = "The factory method that builds the formatter, such as `DateTimeFormat.forPattern`.")
+        String factory;
+
+        @Column(displayName = "Pattern",
+                description = "The pattern of a `DateTimeFormat.forPattern(..)` call, if it is a literal.")
+        @Nullable
+        String pattern;
+
+        @Column(displayName = "Loop depth",
+                description = "The number of loops around the formatter that run its construction repeatedly.")
+        int loopDepth;
+
+        @Column(displayName = "In lambda",
+                description = "Whether the formatter is built inside a lambda.")
+        boolean inLambda;
+
+        @Column(displayName = "In frequently invoked method",
+                description = "Whether the formatter is built inside a method that is typically invoked many times, " +
+                              "such as `compareTo`, `equals`, `hashCode` or `toString`.")
+        boolean inFrequentlyInvokedMethod;
+    }
+}
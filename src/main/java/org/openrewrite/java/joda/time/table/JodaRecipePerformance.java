@@ -0,0 +1,76 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.joda.time.table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Recipe;
+
+@JsonIgnoreType
+public class JodaRecipePerformance extends DataTable<JodaRecipePerformance.Row> {
+    /**
+     * Execution context message, or system property, that turns on recording of this table.
+     */
+    public static final String ENABLED = "org.openrewrite.java.joda.time.recordPerformance";
+
+    public JodaRecipePerformance(Recipe recipe) {
+        super(recipe,
+                "Joda-Time recipe performance",
+                "Time spent and work done by each Joda-Time recipe on each source file. Only recorded when enabled, " +
+                "either through `JodaRecipePerformance.enable(ExecutionContext)` or the `" + ENABLED + "` system property.");
+    }
+
+    /**
+     * Records the performance of the Joda-Time recipes run with the given execution context.
+     */
+    public static void enable(ExecutionContext ctx) {
+        ctx.putMessage(ENABLED, true);
+    }
+
+    public static boolean isEnabled(ExecutionContext ctx) {
+        return ctx.getMessage(ENABLED, false) || Boolean.getBoolean(ENABLED);
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Recipe",
+                description = "The fully qualified name of the recipe.")
+        String recipe;
+
+        @Column(displayName = "Source path",
+                description = "The path of the source file the recipe visited.")
+        String sourcePath;
+
+        @Column(displayName = "Visit time (ns)",
+                description = "Time spent visiting the source file, including the recipe's preconditions.")
+        long visitTimeNanos;
+
+        @Column(displayName = "Template applications",
+                description = "The number of Java templates applied to the source file.")
+        int templateApplications;
+
+        @Column(displayName = "Matched call sites",
+                description = "Method and constructor calls that the recipe has a rewrite for.")
+        int matches;
+
+        @Column(displayName = "Unmatched call sites",
+                description = "Joda-Time method and constructor calls that the recipe visited without having a rewrite for them.")
+        int misses;
+    }
+}
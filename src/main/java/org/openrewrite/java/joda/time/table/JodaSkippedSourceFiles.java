@@ -0,0 +1,82 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.joda.time.table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Recipe;
+
+import java.time.Duration;
+
+@JsonIgnoreType
+public class JodaSkippedSourceFiles extends DataTable<JodaSkippedSourceFiles.Row> {
+    /**
+     * Execution context message, or system property in milliseconds, with the time a Joda-Time recipe may spend
+     * on a single source file.
+     */
+    public static final String FILE_TIME_BUDGET = "org.openrewrite.java.joda.time.fileTimeBudget";
+
+    public JodaSkippedSourceFiles(Recipe recipe) {
+        super(recipe,
+                "Joda-Time skipped source files",
+                "Source files that a Joda-Time recipe gave up on because visiting them took longer than the per-file time budget, " +
+                "set through `JodaSkippedSourceFiles.setFileTimeBudget(ExecutionContext, Duration)` or the `" + FILE_TIME_BUDGET +
+                "` system property. The remaining Joda-Time recipes of the run skip such files, `NoJodaTime` leaves them as they were " +
+                "before the run, and they need to be migrated by hand.");
+    }
+
+    /**
+     * Limits the time each Joda-Time recipe run with the given execution context may spend on a single source file.
+     */
+    public static void setFileTimeBudget(ExecutionContext ctx, Duration budget) {
+        ctx.putMessage(FILE_TIME_BUDGET, budget);
+    }
+
+    /**
+     * @return The per-file time budget, or {@code null} if the Joda-Time recipes may take as long as they need.
+     */
+    public static @Nullable Duration getFileTimeBudget(ExecutionContext ctx) {
+        Duration budget = ctx.getMessage(FILE_TIME_BUDGET);
+        if (budget != null) {
+            return budget;
+        }
+        Long millis = Long.getLong(FILE_TIME_BUDGET);
+        return millis == null ? null : Duration.ofMillis(millis);
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Recipe",
+                description = "The fully qualified name of the recipe that exceeded the time budget.")
+        String recipe;
+
+        @Column(displayName = "Source path",
+                description = "The path of the skipped source file.")
+        String sourcePath;
+
+        @Column(displayName = "Time budget (ms)",
+                description = "The time the recipe was allowed to spend on the source file.")
+        long timeBudgetMillis;
+
+        @Column(displayName = "Visit time (ms)",
+                description = "The time the recipe spent on the source file before giving up on it.")
+        long visitTimeMillis;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.joda.time.table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.Recipe;
+
+@JsonIgnoreType
+public class JodaTimeUsage extends DataTable<JodaTimeUsage.Row> {
+
+    public JodaTimeUsage(Recipe recipe) {
+        super(recipe,
+                "Joda-Time usage",
+                "Joda-Time method and constructor calls, and whether the recipes of `NoJodaTime` migrate them.");
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Source path",
+                description = "The path of the source file with the call.")
+        String sourcePath;
+
+        @Column(displayName = "Type",
+                description = "The fully qualified name of the Joda-Time type declaring the called method.")
+        String type;
+
+        @Column(displayName = "Method",
+                description = "The called method, as a method pattern.")
+        String method;
+
+        @Column(displayName = "Migrated",
+                description = "Whether one of the recipes of `NoJodaTime` migrates the call.")
+        boolean migrated;
+
+        @Column(displayName = "Migrated by",
+                description = "The simple name of the recipe that migrates the call, or `ChangeType` when `java.time` has " +
+                              "a method of the same name, so that changing the type is enough.")
+        @Nullable
+        String migratedBy;
+    }
+}
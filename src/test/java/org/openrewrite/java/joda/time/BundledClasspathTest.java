@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.joda.time;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BundledClasspathTest {
+
+    @Test
+    void mainTypeTableBundlesEveryResolvedArtifact() throws IOException {
+        // the test resources have a type table of their own, which must not hide a missing artifact in the shipped one
+        Set<String> artifacts = new HashSet<>();
+        Set<String> classes = new HashSet<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(new GZIPInputStream(
+          Files.newInputStream(Paths.get("src/main/resources/META-INF/rewrite/classpath.tsv.gz"))), UTF_8))) {
+            reader.readLine();
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                String[] columns = line.split("\t", 6);
+                artifacts.add(columns[1] + "-" + columns[2].substring(0, columns[2].indexOf('.')));
+                classes.add(columns[4]);
+            }
+        }
+        // the artifact names that BundledClasspath resolves
+        assertThat(artifacts).contains("joda-time-2", "threeten-extra-1");
+        assertThat(classes).contains("org/joda/time/DateTime", "org/joda/time/format/DateTimeFormat");
+    }
+}
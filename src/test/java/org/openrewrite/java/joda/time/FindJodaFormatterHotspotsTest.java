@@ -0,0 +1,113 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.joda.time;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.joda.time.table.JodaFormatterHotspots;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+
+class FindJodaFormatterHotspotsTest implements RewriteTest {
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .recipe(new FindJodaFormatterHotspots())
+          .parser(JavaParser.fromJavaVersion().classpathFromResources(new InMemoryExecutionContext(), "joda-time-2"));
+    }
+
+    @DocumentExample
+    @Test
+    void formattersInLoopsLambdasAndFrequentlyInvokedMethods() {
+        rewriteRun(
+          spec -> spec.dataTable(JodaFormatterHotspots.Row.class, rows -> assertThat(rows)
+            .containsExactly(
+              new JodaFormatterHotspots.Row("A.java", "A#format", "DateTimeFormat.forPattern", "yyyy-MM-dd", 2, false, false),
+              new JodaFormatterHotspots.Row("A.java", "A#lambda", "ISODateTimeFormat.dateTime", null, 0, true, false),
+              new JodaFormatterHotspots.Row("A.java", "A#toString", "DateTimeFormat.forPattern", null, 0, false, true))),
+          //language=java
+          java(
+            """
+              import org.joda.time.format.DateTimeFormat;
+              import org.joda.time.format.DateTimeFormatter;
+              import org.joda.time.format.ISODateTimeFormat;
+
+              import java.util.List;
+              import java.util.function.Supplier;
+
+              class A {
+                  private static final DateTimeFormatter CONSTANT = DateTimeFormat.forPattern("HH:mm");
+                  String pattern;
+
+                  void format(List<List<Long>> times) {
+                      DateTimeFormatter once = DateTimeFormat.forPattern("HH:mm:ss");
+                      for (List<Long> day : times) {
+                          for (int i = 0; i < day.size(); i++) {
+                              DateTimeFormat.forPattern("yyyy-MM-dd").print(day.get(i));
+                          }
+                      }
+                  }
+
+                  Supplier<DateTimeFormatter> lambda() {
+                      return () -> ISODateTimeFormat.dateTime();
+                  }
+
+                  @Override
+                  public String toString() {
+                      return DateTimeFormat.forPattern(pattern).print(0L);
+                  }
+              }
+              """,
+            """
+              import org.joda.time.format.DateTimeFormat;
+              import org.joda.time.format.DateTimeFormatter;
+              import org.joda.time.format.ISODateTimeFormat;
+
+              import java.util.List;
+              import java.util.function.Supplier;
+
+              class A {
+                  private static final DateTimeFormatter CONSTANT = DateTimeFormat.forPattern("HH:mm");
+                  String pattern;
+
+                  void format(List<List<Long>> times) {
+                      DateTimeFormatter once = DateTimeFormat.forPattern("HH:mm:ss");
+                      for (List<Long> day : times) {
+                          for (int i = 0; i < day.size(); i++) {
+                              /*~~(Formatter built in a loop)~~>*/DateTimeFormat.forPattern("yyyy-MM-dd").print(day.get(i));
+                          }
+                      }
+                  }
+
+                  Supplier<DateTimeFormatter> lambda() {
+                      return () -> /*~~(Formatter built in a lambda)~~>*/ISODateTimeFormat.dateTime();
+                  }
+
+                  @Override
+                  public String toString() {
+                      return /*~~(Formatter built in `toString`)~~>*/DateTimeFormat.forPattern(pattern).print(0L);
+                  }
+              }
+              """
+          )
+        );
+    }
+}
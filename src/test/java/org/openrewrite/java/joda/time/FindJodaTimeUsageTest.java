@@ -0,0 +1,90 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.joda.time;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.joda.time.table.JodaTimeUsage;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.openrewrite.java.Assertions.java;
+
+class FindJodaTimeUsageTest implements RewriteTest {
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .recipe(new FindJodaTimeUsage())
+          .parser(JavaParser.fromJavaVersion().classpathFromResources(new InMemoryExecutionContext(), "joda-time-2"));
+    }
+
+    @DocumentExample
+    @Test
+    void inventoryOfCallSites() {
+        rewriteRun(
+          spec -> spec.dataTable(JodaTimeUsage.Row.class, rows -> assertThat(rows)
+            .extracting(JodaTimeUsage.Row::getSourcePath, JodaTimeUsage.Row::getType, JodaTimeUsage.Row::isMigrated, JodaTimeUsage.Row::getMigratedBy)
+            .containsExactly(
+              tuple("A.java", "org.joda.time.DateTime", true, "JodaDateTimeToJavaTime"),
+              tuple("A.java", "org.joda.time.base.AbstractDateTime", true, "JodaMethodNamesToJavaTime"),
+              tuple("A.java", "org.joda.time.base.AbstractDateTime", true, "ChangeType"),
+              tuple("A.java", "org.joda.time.DateTime", false, null))),
+          //language=java
+          java(
+            """
+              import org.joda.time.DateTime;
+
+              class A {
+                  void foo() {
+                      DateTime dt = new DateTime();
+                      dt.getHourOfDay();
+                      dt.getYear();
+                      dt.withCenturyOfEra(20);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void callsDispatchedByImperativeRecipes() {
+        rewriteRun(
+          spec -> spec.dataTable(JodaTimeUsage.Row.class, rows -> assertThat(rows)
+            .extracting(JodaTimeUsage.Row::getType, JodaTimeUsage.Row::isMigrated, JodaTimeUsage.Row::getMigratedBy)
+            .containsExactly(
+              tuple("org.joda.time.Duration", true, "JodaDurationToJavaTime"),
+              tuple("org.joda.time.Duration", true, "JodaDurationToJavaTime"))),
+          //language=java
+          java(
+            """
+              import org.joda.time.Duration;
+
+              class A {
+                  void foo() {
+                      Duration d = new Duration(1000L);
+                      d.withMillis(5L);
+                  }
+              }
+              """
+          )
+        );
+    }
+}
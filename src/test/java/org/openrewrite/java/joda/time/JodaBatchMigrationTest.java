@@ -0,0 +1,91 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.joda.time;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openrewrite.InMemoryExecutionContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JodaBatchMigrationTest {
+    @TempDir
+    Path workspace;
+
+    @Test
+    void migratesEveryRepository() throws Exception {
+        List<Path> repositories = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Path repository = workspace.resolve("service" + i);
+            write(repository.resolve("src/main/java/A.java"),
+              //language=java
+              """
+                import org.joda.time.DateTime;
+
+                class A {
+                    void foo() {
+                        System.out.println(new DateTime());
+                    }
+                }
+                """);
+            repositories.add(repository);
+        }
+
+        List<JodaBatchMigration.RepositoryResult> results = new JodaBatchMigration(2, true)
+          .run(repositories, new InMemoryExecutionContext());
+
+        assertThat(results).extracting(JodaBatchMigration.RepositoryResult::getRepository).containsExactlyElementsOf(repositories);
+        for (JodaBatchMigration.RepositoryResult result : results) {
+            assertThat(result.getError()).isNull();
+            assertThat(result.getSummary()).isNotNull();
+            assertThat(result.getSummary().getChanged()).isEqualTo(1);
+            assertThat(new String(Files.readAllBytes(result.getRepository().resolve("src/main/java/A.java")), UTF_8))
+              .contains("ZonedDateTime.now()");
+            assertThat(result.getRepository().resolve(JodaMigrationManifest.DEFAULT_FILE_NAME)).exists();
+        }
+    }
+
+    @Test
+    void failedRepositoryDoesNotStopOthers() throws Exception {
+        Path missing = workspace.resolve("missing");
+        Path repository = workspace.resolve("service");
+        write(repository.resolve("A.java"),
+          //language=java
+          """
+            class A {
+            }
+            """);
+
+        List<JodaBatchMigration.RepositoryResult> results = new JodaBatchMigration(1, false)
+          .run(List.of(missing, repository), new InMemoryExecutionContext());
+
+        assertThat(results.get(0).getError()).isNotNull();
+        assertThat(results.get(1).getError()).isNull();
+        assertThat(results.get(1).getSummary().getSourceFiles()).isEqualTo(1);
+    }
+
+    private static void write(Path path, String content) throws IOException {
+        Files.createDirectories(path.getParent());
+        Files.write(path, content.getBytes(UTF_8));
+    }
+}
@@ -93,4 +93,92 @@ class JodaDateMidnightToJavaTimeTest implements RewriteTest {
           )
         );
     }
+
+    @Test
+    void fixedOffsetMidnight() {
+        // language=java
+        rewriteRun(
+          java(
+            """
+              import org.joda.time.DateMidnight;
+              import org.joda.time.DateTimeZone;
+
+              class A {
+                  public void foo() {
+                      DateMidnight.now(DateTimeZone.UTC);
+                      new DateMidnight(DateTimeZone.forOffsetHours(2));
+                  }
+              }
+              """,
+            """
+              import java.time.ZoneOffset;
+              import java.time.ZonedDateTime;
+              import java.time.temporal.ChronoUnit;
+
+              class A {
+                  public void foo() {
+                      ZonedDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.DAYS);
+                      ZonedDateTime.now(ZoneOffset.ofHours(2)).truncatedTo(ChronoUnit.DAYS);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void preferLocalDate() {
+        rewriteRun(
+          // the zone must be migrated before the variable can become a LocalDate
+          spec -> spec.recipes(new JodaDateTimeZoneToJavaTime(), new JodaDateMidnightToJavaTime(null, true), JodaMigration.loadRecipe()),
+          // language=java
+          java(
+            """
+              import org.joda.time.DateMidnight;
+              import org.joda.time.DateTimeZone;
+
+              class A {
+                  int dayOfMonth() {
+                      DateMidnight today = new DateMidnight(DateTimeZone.UTC);
+                      return today.getDayOfMonth();
+                  }
+              }
+              """,
+            """
+              import java.time.LocalDate;
+              import java.time.ZoneOffset;
+
+              class A {
+                  int dayOfMonth() {
+                      LocalDate today = LocalDate.now(ZoneOffset.UTC);
+                      return today.getDayOfMonth();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepJodaTimeZonesWhenRunAlone() {
+        // java.time has no overload taking a DateTimeZone, so the calls wait for JodaDateTimeZoneToJavaTime
+        rewriteRun(
+          spec -> spec.recipe(new JodaDateMidnightToJavaTime(null, true)),
+          // language=java
+          java(
+            """
+              import org.joda.time.DateMidnight;
+              import org.joda.time.DateTimeZone;
+
+              class A {
+                  int dayOfMonth(DateTimeZone zone) {
+                      DateMidnight today = new DateMidnight(zone);
+                      DateMidnight utc = DateMidnight.now(DateTimeZone.UTC);
+                      return today.getDayOfMonth() + utc.getDayOfMonth();
+                  }
+              }
+              """
+          )
+        );
+    }
 }
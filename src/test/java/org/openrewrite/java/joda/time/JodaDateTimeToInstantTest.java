@@ -0,0 +1,145 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.joda.time;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+@Execution(ExecutionMode.SAME_THREAD)
+class JodaDateTimeToInstantTest implements RewriteTest {
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .recipeFromResource("/META-INF/rewrite/no-joda-time.yml", "org.openrewrite.java.joda.time.NoJodaTime")
+          .parser(JavaParser.fromJavaVersion().classpathFromResources(new InMemoryExecutionContext(), "joda-time-2", "threeten-extra-1"));
+    }
+
+    @DocumentExample
+    @Test
+    void zoneNeverObserved() {
+        // language=java
+        rewriteRun(
+          java(
+            """
+              import org.joda.time.DateTime;
+
+              class A {
+                  private final DateTime created = new DateTime();
+
+                  boolean expired(long ttl) {
+                      DateTime deadline = new DateTime(created.getMillis() + ttl);
+                      return deadline.isBeforeNow();
+                  }
+
+                  boolean createdBefore(long millis) {
+                      DateTime then = new DateTime(millis);
+                      return created.isBefore(then);
+                  }
+              }
+              """,
+            """
+              import java.time.Instant;
+
+              class A {
+                  private final Instant created = Instant.now();
+
+                  boolean expired(long ttl) {
+                      Instant deadline = Instant.ofEpochMilli(created.toEpochMilli() + ttl);
+                      return deadline.isBefore(Instant.now());
+                  }
+
+                  boolean createdBefore(long millis) {
+                      Instant then = Instant.ofEpochMilli(millis);
+                      return created.isBefore(then);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void zoneObservedThroughComparedVariable() {
+        // language=java
+        rewriteRun(
+          java(
+            """
+              import org.joda.time.DateTime;
+
+              class A {
+                  int hour(long millis) {
+                      DateTime now = new DateTime();
+                      DateTime then = new DateTime(millis);
+                      return now.isAfter(then) ? then.getHourOfDay() : 0;
+                  }
+              }
+              """,
+            """
+              import java.time.Instant;
+              import java.time.ZoneId;
+              import java.time.ZonedDateTime;
+
+              class A {
+                  int hour(long millis) {
+                      ZonedDateTime now = ZonedDateTime.now();
+                      ZonedDateTime then = ZonedDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+                      return now.isAfter(then) ? then.getHour() : 0;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void parametersAreNotMigrated() {
+        // language=java
+        rewriteRun(
+          java(
+            """
+              import org.joda.time.DateTime;
+
+              class A {
+                  boolean isOld(DateTime dt) {
+                      DateTime limit = new DateTime(0L);
+                      return dt.isBefore(limit);
+                  }
+              }
+              """,
+            """
+              import java.time.Instant;
+              import java.time.ZoneId;
+              import java.time.ZonedDateTime;
+
+              class A {
+                  boolean isOld(ZonedDateTime dt) {
+                      ZonedDateTime limit = ZonedDateTime.ofInstant(Instant.ofEpochMilli(0L), ZoneId.systemDefault());
+                      return dt.isBefore(limit);
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -78,8 +78,8 @@ class JodaDateTimeToJavaTimeTest implements RewriteTest {
                       ZonedDateTime.of(2024, 9, 30, 12, 58, 0, 0, ZoneOffset.ofHours(2));
                       ZonedDateTime.of(2024, 9, 30, 13, 3, 15, 0, ZoneId.systemDefault());
                       ZonedDateTime.of(2024, 9, 30, 13, 3, 15, 0, ZoneOffset.ofHoursMinutes(5, 30));
-                      ZonedDateTime.of(2024, 9, 30, 13, 49, 15, 545 * 1_000_000, ZoneId.systemDefault());
-                      ZonedDateTime.of(2024, 9, 30, 13, 49, 15, 545 * 1_000_000, TimeZone.getTimeZone("America/New_York").toZoneId());
+                      ZonedDateTime.of(2024, 9, 30, 13, 49, 15, 545_000_000, ZoneId.systemDefault());
+                      ZonedDateTime.of(2024, 9, 30, 13, 49, 15, 545_000_000, TimeZone.getTimeZone("America/New_York").toZoneId());
                   }
               }
               """
@@ -207,7 +207,7 @@ class JodaDateTimeToJavaTimeTest implements RewriteTest {
                       ZonedDateTime.now().withEarlierOffsetAtOverlap();
                       ZonedDateTime.now().withLaterOffsetAtOverlap();
                       ZonedDateTime.now().withYear(2024).withMonth(9).withDayOfMonth(30);
-                      ZonedDateTime.now().withHour(12).withMinute(58).withSecond(57).withNano(550 * 1_000_000);
+                      ZonedDateTime.now().withHour(12).withMinute(58).withSecond(57).withNano(550_000_000);
                       ZonedDateTime.now().plus(Duration.ofMillis(1234567890L).multipliedBy(2));
                       ZonedDateTime.now().plus(Duration.ofMillis(1234567890L));
                       ZonedDateTime.now().plus(Duration.ofDays(1));
@@ -242,7 +242,7 @@ class JodaDateTimeToJavaTimeTest implements RewriteTest {
                       ZonedDateTime.now().withHour(12);
                       ZonedDateTime.now().withMinute(58);
                       ZonedDateTime.now().withSecond(57);
-                      ZonedDateTime.now().withNano(550 * 1_000_000);
+                      ZonedDateTime.now().withNano(550_000_000);
                       ZonedDateTime.now().with(ChronoField.MILLI_OF_DAY, 123456);
                       ZonedDateTime.now().toLocalDate().atStartOfDay(ZonedDateTime.now().getZone());
                   }
@@ -326,4 +326,92 @@ class JodaDateTimeToJavaTimeTest implements RewriteTest {
           )
         );
     }
+
+    @Test
+    void cacheSystemDefaultZone() {
+        // the field declared by the first recipe is reused by the second
+        rewriteRun(
+          spec -> spec.recipes(new JodaDateTimeToJavaTime(true), new JodaAbstractInstantToJavaTime(true), JodaMigration.loadRecipe()),
+          //language=java
+          java(
+            """
+              import org.joda.time.DateTime;
+
+              class A {
+                  DateTime fromMillis(long millis) {
+                      return new DateTime(millis);
+                  }
+
+                  DateTime of(int year, int month, int day) {
+                      return new DateTime(year, month, day, 0, 0);
+                  }
+
+                  boolean isAfter(DateTime dt, long millis) {
+                      return dt.isAfter(millis);
+                  }
+              }
+              """,
+            """
+              import java.time.Instant;
+              import java.time.ZoneId;
+              import java.time.ZonedDateTime;
+
+              class A {
+                  private static final ZoneId SYSTEM_DEFAULT_ZONE = ZoneId.systemDefault();
+
+                  ZonedDateTime fromMillis(long millis) {
+                      return ZonedDateTime.ofInstant(Instant.ofEpochMilli(millis), SYSTEM_DEFAULT_ZONE);
+                  }
+
+                  ZonedDateTime of(int year, int month, int day) {
+                      return ZonedDateTime.of(year, month, day, 0, 0, 0, 0, SYSTEM_DEFAULT_ZONE);
+                  }
+
+                  boolean isAfter(ZonedDateTime dt, long millis) {
+                      return dt.isAfter(Instant.ofEpochMilli(millis).atZone(SYSTEM_DEFAULT_ZONE));
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void epochMillisRoundTrip() {
+        //language=java
+        rewriteRun(
+          java(
+            """
+              import org.joda.time.DateTime;
+
+              class A {
+                  public void foo(long ts) {
+                      long same = new DateTime(ts).getMillis();
+                      long later = new DateTime(ts).plusMillis(5).minusMillis(2).getMillis();
+                      long doubled = 2 * new DateTime(ts).plusMillis(5).getMillis();
+                  }
+
+                  public void bar(int ts, int delta) {
+                      long same = new DateTime(ts).getMillis();
+                      long later = new DateTime(ts).plusMillis(delta).getMillis();
+                  }
+              }
+              """,
+            """
+              class A {
+                  public void foo(long ts) {
+                      long same = ts;
+                      long later = ts + 5 - 2;
+                      long doubled = 2 * (ts + 5);
+                  }
+
+                  public void bar(int ts, int delta) {
+                      long same = (long) ts;
+                      long later = (long) ts + delta;
+                  }
+              }
+              """
+          )
+        );
+    }
 }
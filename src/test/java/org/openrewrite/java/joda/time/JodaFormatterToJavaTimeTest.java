@@ -155,4 +155,242 @@ class JodaFormatterToJavaTimeTest implements RewriteTest {
           )
         );
     }
+
+    @Test
+    void hoistLiteralPatterns() {
+        // "CC" is not a valid java.time pattern, so hoisting it would fail the initialization of the class
+        rewriteRun(
+          spec -> spec.recipes(new JodaFormatterToJavaTime(true, null, null), JodaMigration.loadRecipe()),
+          //language=java
+          java(
+            """
+              import org.joda.time.DateTime;
+              import org.joda.time.format.DateTimeFormat;
+
+              class A {
+                  String format(DateTime dt) {
+                      return DateTimeFormat.forPattern("dd.MM.yyyy").print(dt);
+                  }
+
+                  String formatAgain(DateTime dt) {
+                      return DateTimeFormat.forPattern("dd.MM.yyyy").print(dt);
+                  }
+
+                  String century(DateTime dt) {
+                      return DateTimeFormat.forPattern("CC").print(dt);
+                  }
+
+                  Runnable anonymous() {
+                      return new Runnable() {
+                          @Override
+                          public void run() {
+                              DateTimeFormat.forPattern("HH:mm");
+                          }
+                      };
+                  }
+              }
+              """,
+            """
+              import java.time.ZonedDateTime;
+              import java.time.format.DateTimeFormatter;
+
+              class A {
+                  private static final DateTimeFormatter DD_MM_YYYY_FORMATTER = DateTimeFormatter.ofPattern("dd.MM.yyyy");
+
+                  String format(ZonedDateTime dt) {
+                      return dt.format(DD_MM_YYYY_FORMATTER);
+                  }
+
+                  String formatAgain(ZonedDateTime dt) {
+                      return dt.format(DD_MM_YYYY_FORMATTER);
+                  }
+
+                  String century(ZonedDateTime dt) {
+                      return dt.format(DateTimeFormatter.ofPattern("CC"));
+                  }
+
+                  Runnable anonymous() {
+                      return new Runnable() {
+                          @Override
+                          public void run() {
+                              DateTimeFormatter.ofPattern("HH:mm");
+                          }
+                      };
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void nonLiteralPatterns() {
+        // NoJodaTime renames forPattern(..) to ofPattern(..) before the formatter recipe runs
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.joda.time.format.DateTimeFormat;
+              import org.joda.time.format.DateTimeFormatter;
+
+              class A {
+                  private static final String PREFIX = "yyyy-MM-";
+
+                  DateTimeFormatter day() {
+                      return DateTimeFormat.forPattern(PREFIX + "dd");
+                  }
+
+                  DateTimeFormatter of(String pattern) {
+                      return DateTimeFormat.forPattern(pattern);
+                  }
+              }
+              """,
+            """
+              import java.time.format.DateTimeFormatter;
+
+              class A {
+                  private static final String PREFIX = "yyyy-MM-";
+
+                  DateTimeFormatter day() {
+                      return DateTimeFormatter.ofPattern(PREFIX + "dd");
+                  }
+
+                  DateTimeFormatter of(String pattern) {
+                      return DateTimeFormatter.ofPattern(pattern);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void nonLiteralPatternsWithHoisting() {
+        rewriteRun(
+          spec -> spec.recipes(new JodaMethodNamesToJavaTime(), new JodaFormatterToJavaTime(true, null, null), JodaMigration.loadRecipe()),
+          //language=java
+          java(
+            """
+              import org.joda.time.format.DateTimeFormat;
+              import org.joda.time.format.DateTimeFormatter;
+
+              class A {
+                  private static final String PREFIX = "yyyy-MM-";
+
+                  DateTimeFormatter day() {
+                      return DateTimeFormat.forPattern(PREFIX + "dd");
+                  }
+
+                  DateTimeFormatter of(String pattern) {
+                      return DateTimeFormat.forPattern(pattern);
+                  }
+              }
+              """,
+            """
+              import java.time.format.DateTimeFormatter;
+
+              class A {
+                  private static final String PREFIX = "yyyy-MM-";
+
+                  DateTimeFormatter day() {
+                      return DateTimeFormatter.ofPattern(PREFIX + "dd");
+                  }
+
+                  DateTimeFormatter of(String pattern) {
+                      return DateTimeFormatter.ofPattern(pattern);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void nonLiteralForPattern() {
+        rewriteRun(
+          spec -> spec.recipe(new JodaFormatterToJavaTime()),
+          //language=java
+          java(
+            """
+              import org.joda.time.format.DateTimeFormat;
+              import org.joda.time.format.DateTimeFormatter;
+
+              class A {
+                  private static final String PREFIX = "yyyy-MM-";
+
+                  DateTimeFormatter day() {
+                      return DateTimeFormat.forPattern(PREFIX + "dd");
+                  }
+
+                  DateTimeFormatter of(String pattern) {
+                      return DateTimeFormat.forPattern(pattern);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void nonLiteralForPatternWithHoisting() {
+        rewriteRun(
+          spec -> spec.recipe(new JodaFormatterToJavaTime(true, null, null)),
+          //language=java
+          java(
+            """
+              import org.joda.time.format.DateTimeFormat;
+              import org.joda.time.format.DateTimeFormatter;
+
+              class A {
+                  private static final String PREFIX = "yyyy-MM-";
+
+                  DateTimeFormatter day() {
+                      return DateTimeFormat.forPattern(PREFIX + "dd");
+                  }
+
+                  DateTimeFormatter of(String pattern) {
+                      return DateTimeFormat.forPattern(pattern);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void predefinedIsoFormatters() {
+        //language=java
+        rewriteRun(
+          spec -> spec.recipes(new JodaFormatterToJavaTime(null, null, true), JodaMigration.loadRecipe()),
+          java(
+            """
+              import org.joda.time.DateTime;
+              import org.joda.time.format.DateTimeFormat;
+              import org.joda.time.format.DateTimeFormatter;
+
+              class A {
+                  DateTimeFormatter day = DateTimeFormat.forPattern("yyyy-MM-dd");
+                  DateTimeFormatter time = DateTimeFormat.forPattern("HH:mm:ss");
+
+                  DateTime parse(String text) {
+                      return DateTimeFormat.forPattern("yyyy-MM-dd'T'HH:mm").parseDateTime(text);
+                  }
+              }
+              """,
+            """
+              import java.time.ZonedDateTime;
+              import java.time.format.DateTimeFormatter;
+
+              class A {
+                  DateTimeFormatter day = DateTimeFormatter.ISO_LOCAL_DATE;
+                  DateTimeFormatter time = DateTimeFormatter.ofPattern("HH:mm:ss");
+
+                  ZonedDateTime parse(String text) {
+                      return ZonedDateTime.parse(text, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+                  }
+              }
+              """
+          )
+        );
+    }
 }
@@ -81,10 +81,10 @@ class JodaLocalTimeToJavaTimeTest implements RewriteTest {
                       LocalTime.now(ZoneOffset.UTC);
                       LocalTime.of(10, 30);
                       LocalTime.of(10, 30, 45);
-                      LocalTime.of(10, 30, 45, 500 * 1_000_000);
-                      LocalTime.now().plusNanos(100 * 1_000_000L);
-                      LocalTime.now().minusNanos(100 * 1_000_000L);
-                      LocalTime.now().withNano(500 * 1_000_000);
+                      LocalTime.of(10, 30, 45, 500_000_000);
+                      LocalTime.now().plusNanos(100_000_000L);
+                      LocalTime.now().minusNanos(100_000_000L);
+                      LocalTime.now().withNano(500_000_000);
                       LocalTime.now().get(ChronoField.MILLI_OF_SECOND);
                       LocalTime.now().get(ChronoField.MILLI_OF_DAY);
                       LocalTime.now().getHour();
@@ -101,4 +101,65 @@ class JodaLocalTimeToJavaTimeTest implements RewriteTest {
           )
         );
     }
+
+    @Test
+    void hoistConstantTimes() {
+        rewriteRun(
+          spec -> spec.recipes(new JodaLocalTimeToJavaTime(null, true), JodaMigration.loadRecipe()),
+          //language=java
+          java(
+            """
+              import org.joda.time.LocalTime;
+
+              class A {
+                  boolean isOpen(LocalTime time, int hour) {
+                      return time.isAfter(new LocalTime(8, 30, 0, 250)) && time.isBefore(new LocalTime(hour, 0));
+                  }
+              }
+              """,
+            """
+              import java.time.LocalTime;
+
+              class A {
+                  private static final LocalTime TIME_8_30_0_250 = LocalTime.of(8, 30, 0, 250_000_000);
+
+                  boolean isOpen(LocalTime time, int hour) {
+                      return time.isAfter(TIME_8_30_0_250) && time.isBefore(LocalTime.of(hour, 0));
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void doNotHoistInvalidTimes() {
+        // LocalTime.of(25, 0) throws, which must not fail the initialization of the class
+        rewriteRun(
+          spec -> spec.recipes(new JodaLocalTimeToJavaTime(null, true), JodaMigration.loadRecipe()),
+          //language=java
+          java(
+            """
+              import org.joda.time.LocalTime;
+
+              class A {
+                  LocalTime closing(boolean late) {
+                      return late ? new LocalTime(25, 0) : new LocalTime(18, 0);
+                  }
+              }
+              """,
+            """
+              import java.time.LocalTime;
+
+              class A {
+                  private static final LocalTime TIME_18_0 = LocalTime.of(18, 0);
+
+                  LocalTime closing(boolean late) {
+                      return late ? LocalTime.of(25, 0) : TIME_18_0;
+                  }
+              }
+              """
+          )
+        );
+    }
 }
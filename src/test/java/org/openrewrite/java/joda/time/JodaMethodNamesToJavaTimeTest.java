@@ -0,0 +1,139 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.joda.time;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+@Execution(ExecutionMode.SAME_THREAD)
+class JodaMethodNamesToJavaTimeTest implements RewriteTest {
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .recipe(new JodaMethodNamesToJavaTime())
+          .parser(JavaParser.fromJavaVersion().classpathFromResources(new InMemoryExecutionContext(), "joda-time-2"));
+    }
+
+    @DocumentExample
+    @Test
+    void renameInvocations() {
+        //language=java
+        rewriteRun(
+          java(
+            """
+              import org.joda.time.DateTime;
+              import org.joda.time.Duration;
+
+              class A {
+                  public void foo(DateTime dt) {
+                      dt.getHourOfDay();
+                      dt.withMonthOfYear(2);
+                      Duration.standardDays(1).getStandardHours();
+                  }
+              }
+              """,
+            """
+              import org.joda.time.DateTime;
+              import org.joda.time.Duration;
+
+              class A {
+                  public void foo(DateTime dt) {
+                      dt.getHour();
+                      dt.withMonth(2);
+                      Duration.ofDays(1).toHours();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void renameMemberReference() {
+        //language=java
+        rewriteRun(
+          java(
+            """
+              import org.joda.time.LocalTime;
+
+              import java.util.function.Function;
+
+              class A {
+                  Function<LocalTime, Integer> hour = LocalTime::getHourOfDay;
+              }
+              """,
+            """
+              import org.joda.time.LocalTime;
+
+              import java.util.function.Function;
+
+              class A {
+                  Function<LocalTime, Integer> hour = LocalTime::getHour;
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void renameStaticImport() {
+        //language=java
+        rewriteRun(
+          java(
+            """
+              import static org.joda.time.Duration.standardMinutes;
+
+              class A {
+                  Object d = standardMinutes(5);
+              }
+              """,
+            """
+              import static org.joda.time.Duration.ofMinutes;
+
+              class A {
+                  Object d = ofMinutes(5);
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void leaveUnrelatedMethodsAlone() {
+        //language=java
+        rewriteRun(
+          java(
+            """
+              import org.joda.time.DateTime;
+
+              class A {
+                  public int foo(DateTime dt) {
+                      return dt.getDayOfMonth();
+                  }
+              }
+              """
+          )
+        );
+    }
+}
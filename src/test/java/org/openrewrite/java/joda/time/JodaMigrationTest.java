@@ -0,0 +1,411 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.joda.time;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openrewrite.DataTable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.SourceFile;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.joda.time.table.JodaRecipePerformance;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JodaMigrationTest {
+    private static final List<Path> CLASSPATH = JavaParser.dependenciesFromResources(new InMemoryExecutionContext(), "joda-time-2");
+
+    @TempDir
+    Path projectDir;
+
+    @Test
+    void incrementalRunSkipsUnchangedJodaFreeFiles() throws IOException {
+        Path a = write("src/main/java/A.java",
+          //language=java
+          """
+            import org.joda.time.DateTime;
+
+            class A {
+                void foo() {
+                    System.out.println(new DateTime());
+                }
+            }
+            """);
+        write("src/main/java/B.java",
+          //language=java
+          """
+            class B {
+            }
+            """);
+        Path manifest = projectDir.resolve(JodaMigrationManifest.DEFAULT_FILE_NAME);
+        JodaMigration migration = new JodaMigration(projectDir, CLASSPATH, manifest);
+
+        JodaMigration.Summary first = migration.run(new InMemoryExecutionContext());
+        assertThat(first.getSourceFiles()).isEqualTo(2);
+        assertThat(first.getSkipped()).isZero();
+        assertThat(first.getChanged()).isEqualTo(1);
+        assertThat(new String(Files.readAllBytes(a), UTF_8)).contains("ZonedDateTime.now()").doesNotContain("org.joda.time");
+
+        JodaMigration.Summary second = migration.run(new InMemoryExecutionContext());
+        assertThat(second.getSkipped()).isEqualTo(2);
+        assertThat(second.getChanged()).isZero();
+
+        write("src/main/java/B.java",
+          //language=java
+          """
+            import org.joda.time.DateTime;
+
+            class B {
+                DateTime now() {
+                    return new DateTime();
+                }
+            }
+            """);
+        // B now uses Joda-Time, which may change the types of the files that call it
+        JodaMigration.Summary third = migration.run(new InMemoryExecutionContext());
+        assertThat(third.getSkipped()).isZero();
+        assertThat(third.getChanged()).isEqualTo(1);
+
+        write("src/main/java/C.java",
+          //language=java
+          """
+            class C {
+            }
+            """);
+        JodaMigration.Summary fourth = migration.run(new InMemoryExecutionContext());
+        assertThat(fourth.getSkipped()).isEqualTo(2);
+        assertThat(fourth.getChanged()).isZero();
+    }
+
+    @Test
+    void incrementalRunRevisitsCallersOfChangedJodaFiles() throws IOException {
+        write("src/main/java/A.java",
+          //language=java
+          """
+            class A {
+                Object now(B b) {
+                    return b.now();
+                }
+            }
+            """);
+        write("src/main/java/B.java",
+          //language=java
+          """
+            import java.time.ZonedDateTime;
+
+            class B {
+                ZonedDateTime now() {
+                    return ZonedDateTime.now();
+                }
+            }
+            """);
+        Path manifest = projectDir.resolve(JodaMigrationManifest.DEFAULT_FILE_NAME);
+        JodaMigration migration = new JodaMigration(projectDir, CLASSPATH, manifest);
+        assertThat(migration.run(new InMemoryExecutionContext()).getChanged()).isZero();
+        assertThat(migration.run(new InMemoryExecutionContext()).getSkipped()).isEqualTo(2);
+
+        // A is unchanged and was Joda-free, but its call of B.now() returns a Joda-Time type now
+        write("src/main/java/B.java",
+          //language=java
+          """
+            import org.joda.time.DateTime;
+
+            class B {
+                DateTime now() {
+                    return new DateTime();
+                }
+            }
+            """);
+        assertThat(migration.run(new InMemoryExecutionContext()).getSkipped()).isZero();
+    }
+
+    @Test
+    void migratesEverythingWithoutManifest() throws IOException {
+        write("A.java",
+          //language=java
+          """
+            class A {
+            }
+            """);
+        JodaMigration migration = new JodaMigration(projectDir, CLASSPATH, null);
+
+        assertThat(migration.run(new InMemoryExecutionContext()).getSkipped()).isZero();
+        assertThat(migration.run(new InMemoryExecutionContext()).getSkipped()).isZero();
+    }
+
+    @Test
+    void parallelRunWritesTheSameFilesAsSequentialRun(@TempDir Path sequentialDir) throws IOException {
+        for (int module = 0; module < 8; module++) {
+            for (String sourceSet : new String[]{"main", "test"}) {
+                String source = String.format(
+                  //language=java
+                  """
+                    package m%d;
+
+                    import org.joda.time.DateTime;
+                    import org.joda.time.Duration;
+
+                    class %s%d {
+                        DateTime later(DateTime dt) {
+                            return dt.plusDays(1).plus(Duration.standardHours(%d));
+                        }
+                    }
+                    """, module, sourceSet.equals("main") ? "Main" : "Test", module, module);
+                String relativePath = "module" + module + "/src/" + sourceSet + "/java/m" + module + "/" +
+                                      (sourceSet.equals("main") ? "Main" : "Test") + module + ".java";
+                write(relativePath, source);
+                write(sequentialDir, relativePath, source);
+            }
+        }
+
+        JodaMigration.Summary parallel = new JodaMigration(projectDir, CLASSPATH, null, 4).run(new InMemoryExecutionContext());
+        JodaMigration.Summary sequential = new JodaMigration(sequentialDir, CLASSPATH, null).run(new InMemoryExecutionContext());
+
+        assertThat(parallel).isEqualTo(sequential);
+        assertThat(parallel.getChanged()).isEqualTo(16);
+        for (int module = 0; module < 8; module++) {
+            String relativePath = "module" + module + "/src/main/java/m" + module + "/Main" + module + ".java";
+            assertThat(new String(Files.readAllBytes(projectDir.resolve(relativePath)), UTF_8))
+              .isEqualTo(new String(Files.readAllBytes(sequentialDir.resolve(relativePath)), UTF_8))
+              .contains("ZonedDateTime");
+        }
+    }
+
+    @Test
+    void parallelRunSeesTypesOfOtherSourceSets(@TempDir Path sequentialDir) throws IOException {
+        String clock =
+          //language=java
+          """
+            package p;
+
+            import org.joda.time.DateTime;
+
+            public class Clock {
+                public DateTime now() {
+                    return new DateTime();
+                }
+            }
+            """;
+        String clockTest =
+          //language=java
+          """
+            package p;
+
+            class ClockTest {
+                long millis(Clock clock) {
+                    return clock.now().getMillis();
+                }
+            }
+            """;
+        for (Path dir : new Path[]{projectDir, sequentialDir}) {
+            write(dir, "src/main/java/p/Clock.java", clock);
+            write(dir, "src/test/java/p/ClockTest.java", clockTest);
+        }
+
+        new JodaMigration(projectDir, CLASSPATH, null, 4).run(new InMemoryExecutionContext());
+        new JodaMigration(sequentialDir, CLASSPATH, null).run(new InMemoryExecutionContext());
+
+        String relativePath = "src/test/java/p/ClockTest.java";
+        assertThat(new String(Files.readAllBytes(projectDir.resolve(relativePath)), UTF_8))
+          .isEqualTo(new String(Files.readAllBytes(sequentialDir.resolve(relativePath)), UTF_8))
+          .contains("clock.now().toInstant().toEpochMilli()");
+    }
+
+    @Test
+    void parallelMigrationOfNoSourceSets() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            JodaMigration.Migrated migrated = pool.invoke(
+              new JodaMigration.MigrateSourceSets(JodaMigration.loadRecipe(), emptyList(), emptyList()));
+
+            assertThat(migrated.getSourceFiles()).isEmpty();
+            assertThat(migrated.getResults()).isEmpty();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void parallelRunKeepsTheMessagesOfTheExecutionContext() throws IOException {
+        for (String sourceSet : new String[]{"main", "test"}) {
+            write("src/" + sourceSet + "/java/A" + sourceSet + ".java", String.format(
+              //language=java
+              """
+                import org.joda.time.DateTime;
+
+                class A%s {
+                    DateTime now() {
+                        return new DateTime();
+                    }
+                }
+                """, sourceSet));
+        }
+        InMemoryExecutionContext ctx = new InMemoryExecutionContext();
+        JodaRecipePerformance.enable(ctx);
+
+        new JodaMigration(projectDir, CLASSPATH, null, 2).run(ctx);
+
+        // the rows of both source sets are added to the data tables of the given execution context
+        Map<DataTable<?>, List<?>> dataTables = ctx.getMessage(ExecutionContext.DATA_TABLES);
+        assertThat(dataTables).isNotNull();
+        Set<String> sourcePaths = new HashSet<>();
+        dataTables.forEach((dataTable, rows) -> {
+            if (dataTable instanceof JodaRecipePerformance) {
+                for (Object row : rows) {
+                    sourcePaths.add(((JodaRecipePerformance.Row) row).getSourcePath());
+                }
+            }
+        });
+        assertThat(sourcePaths).containsExactlyInAnyOrder(
+          Paths.get("src/main/java/Amain.java").toString(),
+          Paths.get("src/test/java/Atest.java").toString());
+    }
+
+    @Test
+    void streamingMigratesOneFileAtATime() throws IOException {
+        for (int i = 0; i < 3; i++) {
+            write("src/main/java/A" + i + ".java", String.format(
+              //language=java
+              """
+                import org.joda.time.DateTime;
+
+                class A%d {
+                    DateTime tomorrow() {
+                        return new DateTime().plusDays(1);
+                    }
+                }
+                """, i));
+        }
+        write("src/main/java/B.java",
+          //language=java
+          """
+            class B {
+            }
+            """);
+        Path manifest = projectDir.resolve(JodaMigrationManifest.DEFAULT_FILE_NAME);
+
+        JodaMigration.Summary summary = new JodaMigration(projectDir, CLASSPATH, manifest)
+          .withStreaming(true)
+          .run(new InMemoryExecutionContext());
+
+        assertThat(summary.getSourceFiles()).isEqualTo(4);
+        assertThat(summary.getChanged()).isEqualTo(3);
+        assertThat(new String(Files.readAllBytes(projectDir.resolve("src/main/java/A2.java")), UTF_8))
+          .contains("ZonedDateTime.now().plusDays(1)");
+        assertThat(JodaMigrationManifest.read(manifest).size()).isEqualTo(4);
+    }
+
+    @Test
+    void patchesInsteadOfChangingFiles() throws IOException {
+        String source =
+          //language=java
+          """
+            import org.joda.time.DateTime;
+
+            class A {
+                DateTime tomorrow() {
+                    return new DateTime().plusDays(1);
+                }
+            }
+            """;
+        Path a = write("src/main/java/A.java", source);
+        StringWriter patches = new StringWriter();
+
+        JodaMigration.Summary summary = new JodaMigration(projectDir, CLASSPATH, null)
+          .withStreaming(true)
+          .withPatches(patches)
+          .run(new InMemoryExecutionContext());
+
+        assertThat(summary.getChanged()).isEqualTo(1);
+        assertThat(patches.toString())
+          .contains("--- a/src/main/java/A.java")
+          .contains("+++ b/src/main/java/A.java")
+          .contains("-        return new DateTime().plusDays(1);")
+          .contains("+        return ZonedDateTime.now().plusDays(1);");
+        assertThat(new String(Files.readAllBytes(a), UTF_8)).isEqualTo(source);
+    }
+
+    @Test
+    void jodaFreeVerdictFollowsTypesNotImports() {
+        //language=java
+        String service = """
+          import org.joda.time.DateTime;
+
+          class Service {
+              DateTime getTimestamp() {
+                  return new DateTime();
+              }
+          }
+          """;
+        //language=java
+        String client = """
+          class Client {
+              Object tomorrow(Service service) {
+                  return service.getTimestamp().plusDays(1);
+              }
+          }
+          """;
+        //language=java
+        String plain = """
+          class Plain {
+              String greet() {
+                  return "hello".trim();
+              }
+          }
+          """;
+        List<SourceFile> parsed = JavaParser.fromJavaVersion().classpath(CLASSPATH).build()
+          .parse(service, client, plain).collect(toList());
+        assertThat(JodaMigrationManifest.isJodaFree(parsed.get(1))).isFalse();
+        assertThat(JodaMigrationManifest.isJodaFree(parsed.get(2))).isTrue();
+
+        // without the service, the type of the call is unknown and may well be Joda-Time
+        SourceFile alone = JavaParser.fromJavaVersion().classpath(CLASSPATH).build()
+          .parse(client).findFirst().orElseThrow();
+        assertThat(JodaMigrationManifest.isJodaFree(alone)).isFalse();
+    }
+
+    @Test
+    void sourceSet() {
+        assertThat(JodaMigration.sourceSet(Paths.get("a/src/main/java/com/example/A.java")))
+          .isEqualTo(Paths.get("a/src/main/java"));
+        assertThat(JodaMigration.sourceSet(Paths.get("scripts/A.java"))).isEqualTo(Paths.get("scripts"));
+    }
+
+    private Path write(String relativePath, String content) throws IOException {
+        return write(projectDir, relativePath, content);
+    }
+
+    private static Path write(Path dir, String relativePath, String content) throws IOException {
+        Path path = dir.resolve(relativePath);
+        Files.createDirectories(path.getParent());
+        return Files.write(path, content.getBytes(UTF_8));
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.joda.time;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.joda.time.table.JodaRecipePerformance;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+
+class JodaRecipePerformanceTest implements RewriteTest {
+    @Override
+    public void defaults(RecipeSpec spec) {
+        ExecutionContext ctx = new InMemoryExecutionContext();
+        JodaRecipePerformance.enable(ctx);
+        spec
+          .recipe(new JodaDateTimeToJavaTime())
+          .executionContext(ctx)
+          .parser(JavaParser.fromJavaVersion().classpathFromResources(new InMemoryExecutionContext(), "joda-time-2"));
+    }
+
+    @Test
+    void recordsVisitedSourceFiles() {
+        rewriteRun(
+          spec -> spec.cycles(1).expectedCyclesThatMakeChanges(1).dataTable(JodaRecipePerformance.Row.class, rows -> {
+              assertThat(rows).hasSize(1);
+              JodaRecipePerformance.Row row = rows.get(0);
+              assertThat(row.getRecipe()).isEqualTo("org.openrewrite.java.joda.time.JodaDateTimeToJavaTime");
+              assertThat(row.getSourcePath()).isEqualTo("A.java");
+              assertThat(row.getVisitTimeNanos()).isPositive();
+              assertThat(row.getTemplateApplications()).isEqualTo(1);
+              assertThat(row.getMatches()).isEqualTo(1);
+          }),
+          // language=java
+          java(
+            """
+              class A {
+                  void foo() {
+                      new org.joda.time.DateTime();
+                  }
+              }
+              """,
+            """
+              import java.time.ZonedDateTime;
+
+              class A {
+                  void foo() {
+                      ZonedDateTime.now();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void countsTemplatesWhereTheyAreApplied() {
+        // the rule keeps its template after the first call, which must not stop the count
+        rewriteRun(
+          spec -> spec.cycles(1).expectedCyclesThatMakeChanges(1).dataTable(JodaRecipePerformance.Row.class, rows -> {
+              assertThat(rows).hasSize(1);
+              assertThat(rows.get(0).getTemplateApplications()).isEqualTo(3);
+          }),
+          // language=java
+          java(
+            """
+              class A {
+                  void foo() {
+                      new org.joda.time.DateTime();
+                      new org.joda.time.DateTime();
+                      new org.joda.time.DateTime();
+                  }
+              }
+              """,
+            """
+              import java.time.ZonedDateTime;
+
+              class A {
+                  void foo() {
+                      ZonedDateTime.now();
+                      ZonedDateTime.now();
+                      ZonedDateTime.now();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void rulesOfOtherRecipesAreMisses() {
+        rewriteRun(
+          spec -> spec.recipes(new JodaFormatterToJavaTime(), new JodaDateTimeToJavaTime())
+            .cycles(1).expectedCyclesThatMakeChanges(1)
+            .dataTable(JodaRecipePerformance.Row.class, rows -> {
+                // the rule for DateTime.now() belongs to JodaDateTimeToJavaTime
+                JodaRecipePerformance.Row formatter = row(rows, "org.openrewrite.java.joda.time.JodaFormatterToJavaTime");
+                assertThat(formatter.getMatches()).isZero();
+                assertThat(formatter.getMisses()).isEqualTo(1);
+                JodaRecipePerformance.Row dateTime = row(rows, "org.openrewrite.java.joda.time.JodaDateTimeToJavaTime");
+                assertThat(dateTime.getMatches()).isEqualTo(1);
+                assertThat(dateTime.getMisses()).isZero();
+            }),
+          // language=java
+          java(
+            """
+              import org.joda.time.DateTime;
+              import org.joda.time.format.DateTimeFormatter;
+
+              class A {
+                  void foo(DateTimeFormatter formatter) {
+                      DateTime.now();
+                  }
+              }
+              """,
+            """
+              import org.joda.time.format.DateTimeFormatter;
+
+              import java.time.ZonedDateTime;
+
+              class A {
+                  void foo(DateTimeFormatter formatter) {
+                      ZonedDateTime.now();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    private static JodaRecipePerformance.Row row(List<JodaRecipePerformance.Row> rows, String recipe) {
+        return rows.stream().filter(row -> row.getRecipe().equals(recipe)).findFirst().orElseThrow();
+    }
+}
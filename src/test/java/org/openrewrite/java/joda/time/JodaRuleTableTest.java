@@ -0,0 +1,49 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.joda.time;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JodaRuleTableTest {
+
+    @Test
+    void rulesBelongToARecipe() {
+        assertThatThrownBy(() -> JodaRuleTable.builder()
+          .rule("org.joda.time.DateTime now()", JodaRewriteRule.of("ZonedDateTime.now()", "java.time.ZonedDateTime")))
+          .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void duplicateRulesOfARecipeAreRejected() {
+        JodaRuleTable.Builder builder = JodaRuleTable.builder()
+          .recipe(JodaDateTimeToJavaTime.class)
+          .rule("org.joda.time.DateTime now()", JodaRewriteRule.of("ZonedDateTime.now()", "java.time.ZonedDateTime"));
+        assertThatThrownBy(() -> builder.rule("org.joda.time.DateTime now()", JodaRewriteRule.of("ZonedDateTime.now()", "java.time.ZonedDateTime")))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void recipesMayShareAPattern() {
+        JodaRuleTable.builder()
+          .recipe(JodaDateTimeToJavaTime.class)
+          .rule("org.joda.time.DateTime now()", JodaRewriteRule.of("ZonedDateTime.now()", "java.time.ZonedDateTime"))
+          .recipe(JodaDateTimeToInstant.class)
+          .rule("org.joda.time.DateTime now()", JodaRewriteRule.of("Instant.now()", "java.time.Instant"))
+          .build();
+    }
+}
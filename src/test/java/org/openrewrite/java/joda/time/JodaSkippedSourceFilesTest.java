@@ -0,0 +1,149 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.joda.time;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.joda.time.table.JodaSkippedSourceFiles;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+
+class JodaSkippedSourceFilesTest implements RewriteTest {
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.parser(JavaParser.fromJavaVersion().classpathFromResources(new InMemoryExecutionContext(), "joda-time-2", "threeten-extra-1"));
+    }
+
+    private static ExecutionContext withFileTimeBudget(Duration budget) {
+        ExecutionContext ctx = new InMemoryExecutionContext();
+        JodaSkippedSourceFiles.setFileTimeBudget(ctx, budget);
+        return ctx;
+    }
+
+    @Test
+    void migratesWithinTheBudget() {
+        rewriteRun(
+          spec -> spec
+            .recipe(new JodaDateTimeToJavaTime())
+            .executionContext(withFileTimeBudget(Duration.ofMinutes(1))),
+          // language=java
+          java(
+            """
+              class A {
+                  void foo() {
+                      new org.joda.time.DateTime();
+                  }
+              }
+              """,
+            """
+              import java.time.ZonedDateTime;
+
+              class A {
+                  void foo() {
+                      ZonedDateTime.now();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void skipsSourceFilesThatExceedTheBudget() {
+        rewriteRun(
+          spec -> spec
+            .recipe(new JodaDateTimeToJavaTime())
+            .executionContext(withFileTimeBudget(Duration.ZERO))
+            .dataTable(JodaSkippedSourceFiles.Row.class, rows -> {
+                assertThat(rows).hasSize(1);
+                JodaSkippedSourceFiles.Row row = rows.get(0);
+                assertThat(row.getRecipe()).isEqualTo("org.openrewrite.java.joda.time.JodaDateTimeToJavaTime");
+                assertThat(row.getSourcePath()).isEqualTo("A.java");
+                assertThat(row.getTimeBudgetMillis()).isZero();
+            }),
+          // language=java
+          java(
+            """
+              class A {
+                  void foo() {
+                      new org.joda.time.DateTime();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void laterRecipesSkipTheSourceFileToo() {
+        rewriteRun(
+          spec -> spec
+            .recipes(new JodaDateTimeToJavaTime(), new JodaAbstractInstantToJavaTime())
+            .executionContext(withFileTimeBudget(Duration.ZERO))
+            .dataTable(JodaSkippedSourceFiles.Row.class, rows -> {
+                // only the recipe that exceeded the budget reports the source file
+                assertThat(rows).hasSize(1);
+                assertThat(rows.get(0).getRecipe()).isEqualTo("org.openrewrite.java.joda.time.JodaDateTimeToJavaTime");
+            }),
+          // language=java
+          java(
+            """
+              import java.util.Date;
+
+              class A {
+                  Date foo() {
+                      return new org.joda.time.DateTime().toDate();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void noJodaTimeLeavesSkippedSourceFilesAsTheyWere() {
+        // without the revert, the ChangeType steps would still change the imports and declarations
+        rewriteRun(
+          spec -> spec
+            .recipeFromResource("/META-INF/rewrite/no-joda-time.yml", "org.openrewrite.java.joda.time.NoJodaTime")
+            .executionContext(withFileTimeBudget(Duration.ZERO))
+            .dataTable(JodaSkippedSourceFiles.Row.class, rows -> assertThat(rows)
+              .extracting(JodaSkippedSourceFiles.Row::getSourcePath)
+              .containsOnly("A.java")),
+          // language=java
+          java(
+            """
+              import org.joda.time.DateTime;
+              import org.joda.time.DateTimeZone;
+
+              class A {
+                  DateTime foo(DateTimeZone zone) {
+                      DateTime now = new DateTime(zone);
+                      return now.plusDays(1);
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.joda.time;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JodaTemplatesTest {
+
+    @Test
+    void templatesAreSharedByCodeAndImports() {
+        long hits = JodaTemplates.getHits();
+        assertThat(JodaTemplates.get("ZonedDateTime.now()", "java.time.ZonedDateTime"))
+          .isSameAs(JodaTemplates.get("ZonedDateTime.now()", "java.time.ZonedDateTime"));
+        assertThat(JodaTemplates.getHits()).isGreaterThan(hits);
+    }
+
+    @Test
+    void importsArePartOfTheKey() {
+        assertThat(JodaTemplates.get("#{any(java.time.ZonedDateTime)}.toInstant()"))
+          .isNotSameAs(JodaTemplates.get("#{any(java.time.ZonedDateTime)}.toInstant()", "java.time.Instant"));
+    }
+}
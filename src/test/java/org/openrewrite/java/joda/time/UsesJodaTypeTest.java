@@ -0,0 +1,103 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.joda.time;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.test.RewriteTest.toRecipe;
+
+class UsesJodaTypeTest implements RewriteTest {
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.parser(JavaParser.fromJavaVersion().classpathFromResources(new InMemoryExecutionContext(), "joda-time-2"));
+    }
+
+    @Test
+    void findsTypeUsedImplicitly() {
+        rewriteRun(
+          spec -> spec.recipe(toRecipe(() -> new UsesJodaType<>(UsesJodaType.INTERVAL))),
+          // language=java
+          java(
+            """
+              import org.joda.time.DateTime;
+              import org.joda.time.LocalDate;
+
+              class A {
+                  boolean foo(LocalDate a, DateTime b) {
+                      return a.toInterval().contains(b);
+                  }
+              }
+              """,
+            """
+              /*~~>*/import org.joda.time.DateTime;
+              import org.joda.time.LocalDate;
+
+              class A {
+                  boolean foo(LocalDate a, DateTime b) {
+                      return a.toInterval().contains(b);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void combinesTypes() {
+        rewriteRun(
+          spec -> spec.recipe(toRecipe(() -> new UsesJodaType<>(UsesJodaType.DAYS | UsesJodaType.HOURS))),
+          // language=java
+          java(
+            """
+              import org.joda.time.Hours;
+
+              class A {
+                  Hours h = Hours.ONE;
+              }
+              """,
+            """
+              /*~~>*/import org.joda.time.Hours;
+
+              class A {
+                  Hours h = Hours.ONE;
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void ignoresOtherJodaTypes() {
+        rewriteRun(
+          spec -> spec.recipe(toRecipe(() -> new UsesJodaType<>(UsesJodaType.FORMAT))),
+          // language=java
+          java(
+            """
+              import org.joda.time.LocalDate;
+
+              class A {
+                  LocalDate d = LocalDate.now();
+              }
+              """
+          )
+        );
+    }
+}